@@ -1,29 +1,192 @@
 package com.example.transportationserver.config;
 
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.service.ExternalStationCache;
+import com.example.transportationserver.service.MolitApiClient;
+import com.example.transportationserver.service.NearbyCandidateCache;
+import com.example.transportationserver.util.HotKeyTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
+/**
+ * 캐시별 Caffeine 정책 설정
+ * 캐시마다 접근 패턴이 다르므로 크기/가중치, 만료, 갱신 정책을 개별 스펙으로 지정
+ * refreshAfterWrite가 설정된 캐시는 만료 전에 백그라운드에서 다시 로드되어 호출자가 미스를 겪지 않음
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    @Value("${cache.spec.stations:maximumSize=2000,expireAfterWrite=6h,refreshAfterWrite=30m,recordStats}")
+    private String stationsSpec;
+
+    @Value("${cache.spec.station-search:maximumSize=5000,expireAfterWrite=30m,recordStats}")
+    private String stationSearchSpec;
+
+    @Value("${cache.spec.coordinate-cache:maximumSize=10000,expireAfterWrite=7d,recordStats}")
+    private String coordinateCacheSpec;
+
+    @Value("${cache.spec.nearby-stations:maximumWeight=200000,expireAfterWrite=1h,refreshAfterWrite=10m,recordStats}")
+    private String nearbyStationsSpec;
+
+    @Value("${cache.spec.external-station-search:maximumSize=2000,expireAfterWrite=1h,refreshAfterWrite=5m,recordStats}")
+    private String externalStationSearchSpec;
+
+    @Value("${cache.spec.external-line-stations:maximumSize=100,expireAfterWrite=6h,refreshAfterWrite=30m,recordStats}")
+    private String externalLineStationsSpec;
+
+    @Value("${cache.metrics.hot-key-capacity:10000}")
+    private long hotKeyCapacity;
+
+    @Autowired
+    @Lazy
+    private SubwayStationMapper subwayStationMapper;
+
+    @Autowired
+    @Lazy
+    private NearbyCandidateCache nearbyCandidateCache;
+
+    @Autowired
+    @Lazy
+    private MolitApiClient molitApiClient;
+
+    /**
+     * 인기 키 집계 대상: 검색어/좌표 셀처럼 키 분포가 넓은 캐시
+     */
+    @Bean
+    public HotKeyTracker hotKeyTracker() {
+        return new HotKeyTracker(Set.of("stationSearch", "nearbyStations"), hotKeyCapacity);
+    }
+
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        HotKeyTracker hotKeyTracker = hotKeyTracker();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                return new TrackingCaffeineCache(name, cache, isAllowNullValues(), hotKeyTracker);
+            }
+        };
+
+        // 등록되지 않은 캐시 이름에 적용되는 기본 정책
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(1000)
                 .expireAfterWrite(Duration.ofHours(1))
                 .recordStats());
-        
+
         // AsyncCache 모드 활성화
         cacheManager.setAsyncCacheMode(true);
-        
+
+        // 전체 목록('all')과 ID별 역 정보 - 갱신 시 DB에서 다시 로드
+        cacheManager.registerCustomCache("stations", buildCache("stations", stationsSpec, key -> {
+            if ("all".equals(key)) {
+                return subwayStationMapper.findAll();
+            }
+            return key instanceof Long ? subwayStationMapper.findById((Long) key) : null;
+        }));
+
+        // 역명 검색 결과 - 키 종류가 다양하여 만료만 적용
+        cacheManager.registerCustomCache("stationSearch", buildCache("stationSearch", stationSearchSpec, null));
+
+        // 외부 API 좌표 보완 결과 - 호출 비용이 크므로 길게 유지하고 백그라운드 갱신 없음
+        cacheManager.registerCustomCache("coordinateCache", buildCache("coordinateCache", coordinateCacheSpec, null));
+
+        // 셀 단위 근처 역 후보 - 후보 개수를 가중치로 사용
+        cacheManager.registerCustomCache("nearbyStations", buildCache("nearbyStations", nearbyStationsSpec,
+                key -> nearbyCandidateCache.reloadCandidates((String) key)));
+
+        // 외부 API(MOLIT) 검색 결과 - 만료 전에는 기존 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+        cacheManager.registerCustomCache(ExternalStationCache.STATION_SEARCH, buildCache(ExternalStationCache.STATION_SEARCH,
+                externalStationSearchSpec, reactiveLoader(key -> molitApiClient.fetchStationDetails((String) key))));
+        cacheManager.registerCustomCache(ExternalStationCache.LINE_STATIONS, buildCache(ExternalStationCache.LINE_STATIONS,
+                externalLineStationsSpec, reactiveLoader(key -> molitApiClient.fetchStationsByLine((String) key))));
+
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    /**
+     * 외부 API를 호출하는 논블로킹 로더 (로드/갱신 모두 Mono를 Future로 연결하여 캐시 스레드를 점유하지 않음)
+     * 갱신이 실패하면 Caffeine이 기존 값을 유지하고 다음 조회 때 다시 갱신을 시도
+     */
+    private CacheLoader<Object, Object> reactiveLoader(Function<Object, Mono<?>> fetch) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return fetch.apply(key).block();
+            }
+
+            @Override
+            public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+                return fetch.apply(key).<Object>map(value -> value).toFuture();
+            }
+
+            @Override
+            public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+                return asyncLoad(key, executor);
+            }
+        };
+    }
+
+    /**
+     * 조회 시 키를 인기 키 집계기에 기록하는 CaffeineCache
+     * CaffeineCache를 그대로 상속하므로 Micrometer 캐시 메트릭 바인딩과 네이티브 캐시 접근이 그대로 동작
+     */
+    private static class TrackingCaffeineCache extends CaffeineCache {
+        private final HotKeyTracker hotKeyTracker;
+
+        TrackingCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                              HotKeyTracker hotKeyTracker) {
+            super(name, cache, allowNullValues);
+            this.hotKeyTracker = hotKeyTracker;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            hotKeyTracker.recordAccess(getName(), key);
+            return super.lookup(key);
+        }
+    }
+
+    private AsyncCache<Object, Object> buildCache(String name, String spec, CacheLoader<Object, Object> loader) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+
+        if (spec.contains("maximumWeight")) {
+            builder.weigher((Object key, Object value) ->
+                value instanceof Collection ? ((Collection<?>) value).size() + 1 : 1);
+        }
+
+        if (spec.contains("refreshAfterWrite")) {
+            if (loader == null) {
+                throw new IllegalStateException("refreshAfterWrite는 로더가 있는 캐시에만 설정할 수 있습니다: " + name);
+            }
+            logger.info("캐시 정책 적용: {} = {} (백그라운드 갱신)", name, spec);
+            return builder.buildAsync(loader);
+        }
+
+        logger.info("캐시 정책 적용: {} = {}", name, spec);
+        return builder.buildAsync();
+    }
+}
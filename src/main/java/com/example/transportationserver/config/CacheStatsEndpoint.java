@@ -0,0 +1,33 @@
+package com.example.transportationserver.config;
+
+import com.example.transportationserver.service.CacheMetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 캐시 통계 Actuator 엔드포인트 (/actuator/cachestats)
+ * 카운터형 지표는 /actuator/metrics의 cache.* 메트릭으로도 조회 가능하며,
+ * 이 엔드포인트는 적중률과 인기 키 상위 N개를 함께 반환
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    @Autowired
+    private CacheMetricsService cacheMetricsService;
+
+    @ReadOperation
+    public Map<String, Object> cacheStatistics() {
+        return cacheMetricsService.getCacheStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> cacheStatistics(@Selector String cacheName) {
+        return cacheMetricsService.getCacheStatistics(cacheName);
+    }
+}
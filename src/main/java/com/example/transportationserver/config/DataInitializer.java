@@ -1,74 +1,179 @@
 package com.example.transportationserver.config;
 
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.service.StationNameIndex;
+import com.example.transportationserver.service.StationSnapshotStore;
+import com.example.transportationserver.service.StationSpatialIndex;
 import com.example.transportationserver.service.SubwayDataSyncService;
 import com.example.transportationserver.service.SubwayStationService;
+import com.example.transportationserver.service.SyncCoordinator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 시작 시 데이터 초기화 (백그라운드)
+ * 기동을 막지 않도록 역 개수 확인 → (부족하면) 동기화 → 인메모리 인덱스 구성을 작업 스레드에서 실행하고,
+ * (동기화는 SyncCoordinator 잠금을 얻은 한 인스턴스만 실행, 나머지는 건너뛰고 DB의 현재 데이터로 인덱스 구성)
+ * 끝나면 StationSnapshotHealthIndicator를 UP으로 바꿔 readiness 프로브가 트래픽을 받기 시작하도록 함
+ * 스냅샷 파일이 있으면 DB 조회 전에 파일로 인덱스를 먼저 구성하여 바로 UP, 이후 DB 기준으로 교체
+ * DB 단계가 실패하면(기동 시 DB 미연결 등) 성공할 때까지 지수 백오프로 재시도하고, 성공하면 UP으로 전환
+ */
 @Component
 public class DataInitializer implements ApplicationRunner {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
-    
+
     @Autowired
     private SubwayDataSyncService syncService;
-    
+
     @Autowired
     private SubwayStationService stationService;
-    
+
+    @Autowired
+    private SyncCoordinator syncCoordinator;
+
+    @Autowired
+    private StationSpatialIndex spatialIndex;
+
+    @Autowired
+    private StationNameIndex nameIndex;
+
     @Autowired
-    private Environment environment;
-    
+    private StationSnapshotStore snapshotStore;
+
+    @Autowired
+    private StationSnapshotHealthIndicator snapshotHealth;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${startup.sync.min-stations:100}")
+    private int minStations;
+
+    @Value("${startup.retry.initial-delay-ms:5000}")
+    private long retryInitialDelayMs;
+
+    @Value("${startup.retry.max-delay-ms:300000}")
+    private long retryMaxDelayMs;
+
     @Override
-    public void run(ApplicationArguments args) throws Exception {
-        logger.info("데이터 초기화 시작...");
-        
+    public void run(ApplicationArguments args) {
+        snapshotHealth.markLoading();
+        submit(0);
+        logger.info("데이터 초기화를 백그라운드에서 시작합니다 (완료 전까지 readiness OUT_OF_SERVICE)");
+    }
+
+    private void submit(int attempt) {
+        CompletableFuture.runAsync(() -> initialize(attempt), taskExecutor)
+            .exceptionally(throwable -> {
+                logger.error("데이터 초기화 작업 실행 실패", throwable);
+                if (!snapshotHealth.isReady()) {
+                    snapshotHealth.markFailed(throwable.getMessage());
+                }
+                scheduleRetry(attempt + 1);
+                return null;
+            });
+    }
+
+    /**
+     * 재시도 예약 (initial-delay부터 두 배씩, 최대 max-delay)
+     */
+    private void scheduleRetry(int attempt) {
+        long delay = Math.min(retryMaxDelayMs, retryInitialDelayMs << Math.min(attempt - 1, 16));
+        logger.info("데이터 초기화 재시도 예약: {}번째 시도, {}ms 후", attempt, delay);
+        taskScheduler.schedule(() -> submit(attempt), Instant.now().plusMillis(delay));
+    }
+
+    private void initialize(int attempt) {
+        long startTime = System.currentTimeMillis();
+
+        // 1) 스냅샷 파일로 인덱스를 먼저 구성 (DB 연결 전에 readiness UP, 재시도 때는 이미 구성한 인덱스 유지)
+        boolean warmStarted = attempt == 0 ? warmStartFromSnapshot(startTime) : snapshotHealth.isReady();
+
         try {
-            // 현재 데이터베이스에 저장된 지하철역 개수 확인
-            int stationCount = stationService.getAllStations().size();
+            // 2) 현재 데이터베이스에 저장된 지하철역 개수 확인 (COUNT 조회)
+            int stationCount = stationService.countStations();
             logger.info("현재 데이터베이스에 저장된 지하철역 개수: {}", stationCount);
-            
+
             // 데이터가 없거나 적을 경우에만 동기화 실행
-            if (stationCount < 100) {
+            if (stationCount < minStations) {
                 logger.info("데이터가 부족합니다. 서울시 API에서 데이터 동기화를 시작합니다...");
-                
-                // 동기화 실행
-                syncService.triggerFullSync();
-                
-                // 동기화 완료까지 대기 (최대 60초)
-                int maxWaitTime = 60;
-                int waitedTime = 0;
-                
-                while (waitedTime < maxWaitTime) {
-                    Thread.sleep(2000); // 2초 대기
-                    waitedTime += 2;
-                    
-                    int currentCount = stationService.getAllStations().size();
-                    logger.info("동기화 진행 중... 현재 {} 개 역 저장됨", currentCount);
-                    
-                    if (currentCount > 700) {
-                        logger.info("데이터 동기화 완료! 총 {} 개 지하철역이 저장되었습니다.", currentCount);
-                        break;
+                try {
+                    Optional<Boolean> synced = syncCoordinator.runExclusive(SyncCoordinator.Job.SEOUL_SYNC, () -> {
+                        syncService.triggerFullSync();
+                        return Boolean.TRUE;
+                    });
+                    if (synced.isPresent()) {
+                        logger.info("데이터 동기화 완료: {} 개 지하철역", stationService.countStations());
+                    } else {
+                        // 다른 인스턴스의 동기화 결과는 캐시 무효화 전파로 인덱스에 반영됨
+                        logger.info("다른 인스턴스에서 동기화 중입니다. 동기화를 건너뛰고 현재 데이터로 인덱스를 구성합니다.");
                     }
+                } catch (Exception e) {
+                    // 동기화 실패 시에도 기존 데이터로 서비스
+                    logger.error("초기 데이터 동기화 실패, 기존 데이터로 계속합니다", e);
                 }
-                
-                if (waitedTime >= maxWaitTime) {
-                    logger.warn("데이터 동기화가 예상보다 오래 걸리고 있습니다. 백그라운드에서 계속 진행됩니다.");
-                }
-                
             } else {
                 logger.info("데이터베이스에 충분한 데이터가 있습니다. 동기화를 건너뜁니다.");
             }
-            
-            logger.info("데이터 초기화 완료!");
-            
+
+            // 3) DB 기준으로 인메모리 인덱스 교체 + 스냅샷 파일 갱신 (DB가 원본)
+            List<SubwayStation> stations = stationService.getAllStations();
+            nameIndex.load(stations);
+            spatialIndex.load(stations);
+            try {
+                snapshotStore.write(stations);
+            } catch (Exception e) {
+                logger.warn("역 스냅샷 기록 실패: {}", e.getMessage());
+            }
+            long elapsed = System.currentTimeMillis() - startTime;
+
+            snapshotHealth.markReady(stations.size(), elapsed, "DATABASE");
+            logger.info("데이터 초기화 완료! DB 기준 인덱스 {}개 역, {}ms", stations.size(), elapsed);
+
         } catch (Exception e) {
-            logger.error("데이터 초기화 중 오류 발생", e);
+            if (warmStarted) {
+                // 스냅샷으로 서비스 중이면 readiness는 유지하고 DB 기준 갱신은 재시도
+                logger.error("DB 기준 데이터 초기화 실패, 스냅샷 데이터로 계속 서비스합니다", e);
+            } else {
+                logger.error("데이터 초기화 중 오류 발생", e);
+                snapshotHealth.markFailed(e.getMessage());
+            }
+            scheduleRetry(attempt + 1);
         }
     }
-}
\ No newline at end of file
+
+    private boolean warmStartFromSnapshot(long startTime) {
+        Optional<StationSnapshotStore.Snapshot> snapshot = snapshotStore.read();
+        if (snapshot.isEmpty() || snapshot.get().getStations().isEmpty()) {
+            return false;
+        }
+
+        List<SubwayStation> stations = snapshot.get().getStations();
+        nameIndex.load(stations);
+        spatialIndex.load(stations);
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        snapshotHealth.markReady(stations.size(), elapsed, "SNAPSHOT_FILE");
+        logger.info("스냅샷 파일로 웜 스타트: {}개 역 (버전 {}), {}ms",
+            stations.size(), snapshot.get().getVersion(), elapsed);
+        return true;
+    }
+}
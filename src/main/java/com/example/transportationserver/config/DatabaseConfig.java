@@ -1,9 +1,32 @@
 package com.example.transportationserver.config;
 
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
-@MapperScan("com.example.transportationserver.repository")
+@MapperScan(value = "com.example.transportationserver.repository", sqlSessionTemplateRef = "sqlSessionTemplate")
 public class DatabaseConfig {
-}
\ No newline at end of file
+    
+    /**
+     * 기본 SqlSessionTemplate (SIMPLE 실행기, 매퍼 스캔 대상)
+     */
+    @Bean
+    @Primary
+    public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+    
+    /**
+     * 일괄 쓰기용 SqlSessionTemplate (BATCH 실행기)
+     * 트랜잭션 안에서 구문을 모아 두었다가 flushStatements()/커밋 시 JDBC 배치로 전송
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.transportationserver.config;
+
+import com.example.transportationserver.util.ReactiveRateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 외부 API Rate Limit 상태 Actuator 엔드포인트 (/actuator/ratelimits)
+ * API 타입별 대기열 깊이, 다음 허가까지 대기 시간, 평균/최대 대기 시간, 일일 사용량 반환
+ */
+@Component
+@Endpoint(id = "ratelimits")
+public class RateLimitStatsEndpoint {
+
+    @Autowired
+    private ReactiveRateLimiter rateLimiter;
+
+    @ReadOperation
+    public Map<String, Object> rateLimits() {
+        return rateLimiter.getStatus();
+    }
+
+    @ReadOperation
+    public Map<String, Object> rateLimit(@Selector String apiType) {
+        for (ReactiveRateLimiter.ApiType type : ReactiveRateLimiter.ApiType.values()) {
+            if (type.getKey().equalsIgnoreCase(apiType) || type.name().equalsIgnoreCase(apiType)) {
+                return rateLimiter.getStatus(type);
+            }
+        }
+        return null;
+    }
+}
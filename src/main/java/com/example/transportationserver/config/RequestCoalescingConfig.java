@@ -0,0 +1,46 @@
+package com.example.transportationserver.config;
+
+import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
+import com.example.transportationserver.service.OpenStreetMapService.Coordinate;
+import com.example.transportationserver.util.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 외부 API 동일 요청 합치기(RequestCoalescer) 설정
+ * 클라이언트별 인스턴스를 같은 request-coalescing.* 설정으로 생성 (캐시는 클라이언트마다 분리)
+ */
+@Configuration
+public class RequestCoalescingConfig {
+
+    @Value("${request-coalescing.result-ttl-seconds:30}")
+    private long resultTtlSeconds;
+
+    @Value("${request-coalescing.maximum-size:1000}")
+    private long maximumSize;
+
+    /**
+     * 역명+지역별 좌표 검색 합치기 (동시에 같은 역을 찾으면 Nominatim 호출 한 번만 사용)
+     */
+    @Bean
+    public RequestCoalescer<String, Optional<Coordinate>> nominatimCoordinateRequests() {
+        return newCoalescer();
+    }
+
+    /**
+     * 역명별 MOLIT 상세정보 조회 합치기 (외부 검색 API와 동기화 작업이 같은 역을 동시에 조회하는 경우)
+     */
+    @Bean
+    public RequestCoalescer<String, List<MolitStationInfo>> molitStationDetailsRequests() {
+        return newCoalescer();
+    }
+
+    private <K, V> RequestCoalescer<K, V> newCoalescer() {
+        return new RequestCoalescer<>(Duration.ofSeconds(resultTtlSeconds), maximumSize);
+    }
+}
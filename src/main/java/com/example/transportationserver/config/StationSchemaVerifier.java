@@ -0,0 +1,86 @@
+package com.example.transportationserver.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일괄 upsert가 의존하는 유니크 인덱스와 동기화 컬럼 확인 (시작 시 1회)
+ * ON CONFLICT 대상 인덱스나 content_hash / sync_source 컬럼이 없으면 모든 동기화 저장이 실패하므로 기동을 중단
+ * DB에 연결할 수 없으면 검사를 건너뜀 (DataInitializer가 연결될 때까지 재시도)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StationSchemaVerifier implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationSchemaVerifier.class);
+
+    // StationBatchWriter / StationBulkLoader의 ON CONFLICT 대상 (DDL은 README 참고)
+    private static final List<String> REQUIRED_INDEXES =
+        List.of("ux_subway_stations_external_id", "ux_subway_stations_identity");
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("content_hash", "sync_source");
+
+    private static final String INDEX_SQL =
+        "SELECT indexname FROM pg_indexes "
+        + "WHERE schemaname = current_schema() AND tablename = 'subway_stations' AND indexname = ANY (?)";
+
+    private static final String COLUMN_SQL =
+        "SELECT column_name FROM information_schema.columns "
+        + "WHERE table_schema = current_schema() AND table_name = 'subway_stations' AND column_name = ANY (?)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            logger.warn("DB 연결 불가로 스키마 검사를 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        Set<String> missing = new LinkedHashSet<>();
+        try (connection) {
+            missing.addAll(findMissing(connection, INDEX_SQL, REQUIRED_INDEXES));
+            missing.addAll(findMissing(connection, COLUMN_SQL, REQUIRED_COLUMNS));
+        } catch (SQLException e) {
+            throw new IllegalStateException("subway_stations 스키마 확인 실패: " + e.getMessage(), e);
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("subway_stations 인덱스/컬럼 누락: " + missing
+                + " (README의 CREATE UNIQUE INDEX / ALTER TABLE 구문을 먼저 실행하세요)");
+        }
+        logger.info("subway_stations 스키마 확인 완료: 인덱스 {}, 컬럼 {}", REQUIRED_INDEXES, REQUIRED_COLUMNS);
+    }
+
+    private Set<String> findMissing(Connection connection, String sql, List<String> required) throws SQLException {
+        Set<String> missing = new LinkedHashSet<>(required);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, connection.createArrayOf("text", required.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    missing.remove(resultSet.getString(1));
+                }
+            }
+        }
+        return missing;
+    }
+}
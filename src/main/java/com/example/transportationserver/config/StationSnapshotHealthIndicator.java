@@ -0,0 +1,63 @@
+package com.example.transportationserver.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역 데이터 스냅샷 준비 상태 (/actuator/health/readiness 그룹에 포함)
+ * 초기 동기화와 인메모리 인덱스 구성이 끝나기 전까지 OUT_OF_SERVICE를 반환하여
+ * HTTP 포트는 바로 열되 로드밸런서가 트래픽을 보내지 않도록 함
+ * 로딩 실패(DB 미연결 등)도 DataInitializer가 재시도하는 동안이므로 DOWN이 아닌 OUT_OF_SERVICE로 보고
+ * (OUT_OF_SERVICE는 readiness 그룹에서만 503, 기본 /actuator/health와 liveness는 200 유지)
+ */
+@Component
+public class StationSnapshotHealthIndicator implements HealthIndicator {
+
+    private volatile Status status = Status.OUT_OF_SERVICE;
+    private volatile int stationCount;
+    private volatile long loadTimeMs;
+    private volatile String source;
+    private volatile String error;
+
+    public void markLoading() {
+        status = Status.OUT_OF_SERVICE;
+        error = null;
+    }
+
+    /**
+     * @param source 인덱스를 구성한 데이터 (SNAPSHOT_FILE: 웜 스타트 파일, DATABASE: DB 조회)
+     */
+    public void markReady(int stationCount, long loadTimeMs, String source) {
+        this.stationCount = stationCount;
+        this.loadTimeMs = loadTimeMs;
+        this.source = source;
+        this.error = null;
+        this.status = Status.UP;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.status = Status.OUT_OF_SERVICE;
+    }
+
+    public boolean isReady() {
+        return Status.UP.equals(status);
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.status(status);
+        if (isReady()) {
+            builder.withDetail("stations", stationCount)
+                .withDetail("loadTimeMs", loadTimeMs)
+                .withDetail("source", source);
+        } else if (error != null) {
+            builder.withDetail("error", error);
+        } else {
+            builder.withDetail("state", "LOADING");
+        }
+        return builder.build();
+    }
+}
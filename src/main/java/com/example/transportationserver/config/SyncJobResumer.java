@@ -0,0 +1,76 @@
+package com.example.transportationserver.config;
+
+import com.example.transportationserver.model.SyncJob;
+import com.example.transportationserver.repository.SyncJobMapper;
+import com.example.transportationserver.service.SyncCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 재시작 시 중단된 동기화 작업 재개
+ * RUNNING으로 남아 있지만 어느 인스턴스도 잠금을 갖고 있지 않은 작업은 처리 도중 종료된 것이므로
+ * SyncCoordinator로 다시 실행하여 체크포인트(last_station_id) 이후부터 이어서 처리
+ * (체크포인트가 없는 작업은 재실행하지 않고 FAILED로 정리)
+ */
+@Component
+public class SyncJobResumer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncJobResumer.class);
+
+    @Autowired
+    private SyncJobMapper syncJobMapper;
+
+    @Autowired
+    private SyncCoordinator syncCoordinator;
+
+    @Value("${sync.jobs.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!resumeOnStartup) {
+            return;
+        }
+
+        List<SyncJob> interrupted;
+        try {
+            interrupted = syncJobMapper.findRunning();
+        } catch (Exception e) {
+            logger.warn("중단된 동기화 작업 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (SyncJob job : interrupted) {
+            Optional<SyncCoordinator.Job> coordinated = SyncCoordinator.Job.fromJobType(job.getJobType());
+            if (coordinated.isEmpty()) {
+                logger.warn("알 수 없는 작업 유형: {}", job.getJobType());
+                continue;
+            }
+
+            // 체크포인트가 없는 작업은 이어서 처리할 수 없으므로 중단 기록만 남김 (다음 스케줄 또는 수동 실행에서 처음부터)
+            if (!coordinated.get().isCheckpointed()) {
+                if (!syncCoordinator.isRunning(coordinated.get())) {
+                    syncJobMapper.finish(job.getId(), SyncJob.STATUS_FAILED, "프로세스 종료로 중단됨");
+                    logger.info("중단된 {} 작업 #{} 실패 처리", job.getJobType(), job.getId());
+                }
+                continue;
+            }
+
+            // 다른 인스턴스가 잠금을 갖고 실행 중이면 중단된 작업이 아니므로 건너뜀
+            if (syncCoordinator.trigger(coordinated.get())) {
+                logger.info("중단된 {} 작업 #{} 재개: {}/{} 처리됨, 체크포인트 역 ID {}",
+                    job.getJobType(), job.getId(), job.getProcessedCount(), job.getTotalCount(), job.getLastStationId());
+            } else {
+                logger.info("{} 작업 #{}은 다른 인스턴스에서 실행 중", job.getJobType(), job.getId());
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.transportationserver.controller;
 
 import com.example.transportationserver.dto.NearbyStationResponse;
+import com.example.transportationserver.dto.BatchNearbyStationRequest;
+import com.example.transportationserver.dto.BatchNearbyStationResponse;
 import com.example.transportationserver.dto.GroupedNearbyStationResponse;
 import com.example.transportationserver.dto.StandardApiResponse;
 import com.example.transportationserver.service.SubwayStationService;
@@ -101,12 +103,68 @@ public class NearbyStationController {
            logger);
     }
     
+    /**
+     * 여러 좌표에 대한 근처 지하철역 일괄 조회
+     * 
+     * @param request 조회 지점 목록 (최대 500개)과 공통 검색 반경/결과 개수
+     * @return 요청 순서대로 정렬된 지점별 그룹화 결과
+     */
+    @Operation(
+        summary = "근처 지하철역 일괄 조회 (그룹화된 결과)",
+        description = "여러 좌표(예: 경로 경유지)에 대해 근처 지하철역을 한 번에 조회합니다. " +
+                      "지점별 결과는 /nearby와 동일한 그룹화 규칙을 따르며 요청 순서대로 반환됩니다. " +
+                      "유효하지 않은 좌표는 해당 지점에만 오류 메시지가 표시됩니다. 최대 500개 지점까지 조회 가능합니다.",
+        tags = {"2. 클라이언트 API (DB → 클라이언트)"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = BatchNearbyStationResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "잘못된 파라미터"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/nearby/batch")
+    public ResponseEntity<StandardApiResponse<BatchNearbyStationResponse>> getNearbyStationsBatch(
+            @RequestBody BatchNearbyStationRequest request
+    ) {
+        
+        return ErrorHandler.handleWithTryCatch(() -> {
+            int pointCount = request.getPoints() != null ? request.getPoints().size() : 0;
+            logger.info("근처 지하철역 일괄 조회 요청: {}개 지점, radius={}km, limit={}", 
+                       pointCount, request.getRadius(), request.getLimit());
+            
+            // 파라미터 검증
+            if (request.getRadius() != null && request.getRadius() <= 0) {
+                throw new IllegalArgumentException("검색 반경은 0보다 커야 합니다");
+            }
+            
+            if (request.getLimit() != null && request.getLimit() <= 0) {
+                throw new IllegalArgumentException("결과 개수는 0보다 커야 합니다");
+            }
+            
+            BatchNearbyStationResponse response = stationService.findNearbyStationsGroupedBatch(
+                request.getPoints(), request.getRadius(), request.getLimit());
+            
+            logger.info("근처 지하철역 일괄 조회 완료: {}/{}개 지점 처리", 
+                       response.getSuccessCount(), response.getTotalPoints());
+            
+            return response;
+            
+        }, "근처 지하철역 일괄 조회",
+           "근처 지하철역 일괄 조회 완료",
+           logger);
+    }
+    
     /**
      * 특정 지점 기준 가장 가까운 지하철역 조회 (편의 API)
+     * 반경 제한 없이 k-NN 탐색으로 가장 가까운 역 그룹을 반환
      */
     @Operation(
         summary = "가장 가까운 지하철역 조회 (그룹화된 결과)", 
-        description = "주어진 좌표에서 가장 가까운 지하철역 그룹 1개를 조회합니다. 같은 역명의 여러 노선이 있을 경우 하나로 그룹화됩니다.",
+        description = "주어진 좌표에서 가장 가까운 지하철역 그룹을 반경 제한 없이 조회합니다. " +
+                      "같은 역명의 여러 노선이 있을 경우 하나로 그룹화됩니다. 기본적으로 1개, 최대 200개까지 조회 가능합니다.",
         tags = {"2. 클라이언트 API (DB → 클라이언트)"}
     )
     @GetMapping("/nearest")
@@ -115,23 +173,30 @@ public class NearbyStationController {
             @RequestParam("latitude") Double latitude,
             
             @Parameter(description = "경도", required = true, example = "126.9780")
-            @RequestParam("longitude") Double longitude
+            @RequestParam("longitude") Double longitude,
+            
+            @Parameter(description = "결과 개수 (기본값: 1, 최대: 200)", example = "1")
+            @RequestParam(value = "limit", required = false) Integer limit
     ) {
         
         return ErrorHandler.handleWithTryCatch(() -> {
-            logger.info("가장 가까운 지하철역 조회 요청: lat={}, lon={}", latitude, longitude);
+            logger.info("가장 가까운 지하철역 조회 요청: lat={}, lon={}, limit={}", latitude, longitude, limit);
+            
+            if (limit != null && limit <= 0) {
+                throw new IllegalArgumentException("결과 개수는 0보다 커야 합니다");
+            }
             
-            // 반경 10km, 결과 1개로 제한 (그룹화된 버전)
-            GroupedNearbyStationResponse response = stationService.findNearbyStationsGrouped(latitude, longitude, 10.0, 1);
+            // 반경 제한 없는 k-NN 탐색 (그룹화된 버전)
+            GroupedNearbyStationResponse response = stationService.findNearestStationsGrouped(latitude, longitude, limit);
             
             if (response.getTotalCount() == 0) {
-                logger.info("반경 10km 내에 지하철역이 없습니다");
+                logger.info("좌표가 등록된 지하철역이 없습니다");
                 return response;
             }
             
             GroupedNearbyStationResponse.GroupedNearbyStation nearest = response.getStations().get(0);
-            logger.info("가장 가까운 지하철역: {} (노선: {}, 거리: {:.2f}km)", 
-                       nearest.getStationName(), nearest.getLines(), nearest.getDistanceKm());
+            logger.info("가장 가까운 지하철역: {} (노선: {}, 거리: {}km)", 
+                       nearest.getStationName(), nearest.getLines(), String.format("%.2f", nearest.getDistanceKm()));
             
             return response;
             
@@ -139,4 +204,4 @@ public class NearbyStationController {
            "가장 가까운 지하철역 조회 완료",
            logger);
     }
-}
\ No newline at end of file
+}
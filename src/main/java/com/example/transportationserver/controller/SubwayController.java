@@ -2,6 +2,7 @@ package com.example.transportationserver.controller;
 
 import com.example.transportationserver.dto.StandardApiResponse;
 import com.example.transportationserver.dto.GroupedStationResponse;
+import com.example.transportationserver.dto.StationSuggestionResponse;
 import com.example.transportationserver.model.SubwayStation;
 import com.example.transportationserver.service.IntegratedSubwayDataService;
 import com.example.transportationserver.service.MolitApiClient;
@@ -9,7 +10,10 @@ import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
 import com.example.transportationserver.service.SubwayStationService;
 import com.example.transportationserver.service.OpenStreetMapService;
 import com.example.transportationserver.service.BatchCoordinateService;
+import com.example.transportationserver.service.ExternalStationCache;
 import com.example.transportationserver.service.StreamingStationService;
+import com.example.transportationserver.service.SyncCoordinator;
+import com.example.transportationserver.service.SyncJobService;
 import com.example.transportationserver.util.ErrorHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -54,6 +58,15 @@ public class SubwayController {
     
     @Autowired
     private StreamingStationService streamingStationService;
+    
+    @Autowired
+    private SyncCoordinator syncCoordinator;
+    
+    @Autowired
+    private SyncJobService syncJobService;
+    
+    @Autowired
+    private ExternalStationCache externalStationCache;
 
     // === 데이터 동기화 === //
     
@@ -65,10 +78,12 @@ public class SubwayController {
     )
     public ResponseEntity<StandardApiResponse<String>> syncAllData() {
         try {
-            integratedService.synchronizeAllData();
+            if (!syncCoordinator.trigger(SyncCoordinator.Job.FULL_SYNC)) {
+                return ErrorHandler.createErrorResponse("전체 데이터 동기화가 이미 실행 중입니다 (다른 인스턴스 포함).", 409);
+            }
             return ResponseEntity.ok(StandardApiResponse.success(
                 "전체 데이터 동기화가 시작되었습니다.", 
-                "백그라운드에서 처리됩니다. 로그를 확인해주세요."
+                "백그라운드에서 처리됩니다. 진행 상황은 /api/subway/sync/jobs 에서 확인하세요."
             ));
         } catch (Exception e) {
             ErrorHandler.logAndHandle(logger, "데이터 동기화 시작", e);
@@ -76,6 +91,22 @@ public class SubwayController {
         }
     }
 
+    @GetMapping("/sync/jobs")
+    @Operation(
+        summary = "동기화 작업 상태",
+        description = "전체 동기화, 좌표 보완, 지하철역 ID 업데이트 작업의 최근 실행 상태 (공유 테이블 기준, 어느 인스턴스에서 실행 중이든 동일)",
+        tags = {"1. 데이터 동기화 (외부 → DB)"}
+    )
+    public ResponseEntity<StandardApiResponse<Map<String, Object>>> getSyncJobs() {
+        return ErrorHandler.handleWithTryCatch(() -> {
+            Map<String, Object> jobs = new HashMap<>();
+            for (SyncCoordinator.Job job : SyncCoordinator.Job.values()) {
+                jobs.put(job.getJobType(), syncJobService.getProgress(job.getJobType()));
+            }
+            return jobs;
+        }, "동기화 작업 상태 조회", "동기화 작업 상태 조회 완료", logger);
+    }
+
 
     // === 역 검색 (데이터베이스 기반) === //
     
@@ -87,13 +118,15 @@ public class SubwayController {
     )
     public ResponseEntity<StandardApiResponse<List<GroupedStationResponse>>> searchStationsGrouped(
             @Parameter(description = "검색할 역명", required = true)
-            @RequestParam String stationName) {
+            @RequestParam String stationName,
+            @Parameter(description = "오타 허용 검색 포함 여부 (자모 편집 거리 1~2 이내 역을 뒤에 추가)", example = "false")
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
         
-        logger.info("스마트 그룹화된 역명 검색 요청: {}", stationName);
+        logger.info("스마트 그룹화된 역명 검색 요청: {} (fuzzy={})", stationName, fuzzy);
         
         return ErrorHandler.handleListWithTryCatch(
             () -> {
-                List<GroupedStationResponse> groupedStations = stationService.searchStationsGroupedSmart(stationName);
+                List<GroupedStationResponse> groupedStations = stationService.searchStationsGroupedSmart(stationName, fuzzy);
                 logger.info("{} 스마트 그룹화된 검색 결과: {}개 그룹", stationName, groupedStations.size());
                 
                 if (!groupedStations.isEmpty()) {
@@ -141,10 +174,35 @@ public class SubwayController {
         );
     }
     
+    @GetMapping("/stations/autocomplete")
+    @Operation(
+        summary = "역명 자동완성 (초성/자모 지원)",
+        description = "입력 중인 역명에 대한 자동완성 후보를 반환. 초성만 입력('ㄱㄴ' → 강남)하거나 " +
+                      "조합 중인 음절('강ㄴ', '강나')을 입력해도 매칭되며, 역 별칭도 검색 대상에 포함",
+        tags = {"2. 클라이언트 API (DB → 클라이언트)"}
+    )
+    public ResponseEntity<StandardApiResponse<List<StationSuggestionResponse>>> autocompleteStations(
+            @Parameter(description = "입력 중인 역명 (초성 가능)", required = true, example = "ㄱㄴ")
+            @RequestParam String query,
+            @Parameter(description = "최대 결과 개수 (기본값: 10, 최대: 50)", example = "10")
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        
+        return ErrorHandler.handleListWithTryCatch(
+            () -> {
+                if (limit != null && limit <= 0) {
+                    throw new IllegalArgumentException("결과 개수는 0보다 커야 합니다");
+                }
+                return stationService.autocompleteStations(query, limit);
+            },
+            "역명 자동완성 (" + query + ")",
+            logger
+        );
+    }
+    
     @GetMapping("/stations/search-external")
     @Operation(
         summary = "역명 검색 (외부 API)",
-        description = "역명으로 지하철역 정보 검색 (MOLIT API 사용)",
+        description = "역명으로 지하철역 정보 검색 (MOLIT API 사용, 결과 캐시 후 백그라운드 갱신)",
         tags = {"1. 데이터 동기화 (외부 → DB)"}
     )
     public Mono<ResponseEntity<StandardApiResponse<List<MolitStationInfo>>>> searchStationsExternal(
@@ -153,7 +211,7 @@ public class SubwayController {
         
         logger.info("외부 API 역명 검색 요청: {}", stationName);
         
-        return molitApiClient.getStationDetails(stationName)
+        return externalStationCache.searchStations(stationName)
             .map(stations -> {
                 logger.info("{} 외부 API 검색 결과: {}개 역", stationName, stations.size());
                 if (!stations.isEmpty()) {
@@ -203,7 +261,7 @@ public class SubwayController {
     @GetMapping("/lines/{lineNumber}/stations-external")
     @Operation(
         summary = "노선별 역 목록 (외부 API)",
-        description = "특정 노선의 모든 역 목록 조회 (MOLIT API 사용)",
+        description = "특정 노선의 모든 역 목록 조회 (MOLIT API 사용, 결과 캐시 후 백그라운드 갱신)",
         tags = {"1. 데이터 동기화 (외부 → DB)"}
     )
     public Mono<ResponseEntity<StandardApiResponse<List<MolitStationInfo>>>> getStationsByLineExternal(
@@ -212,7 +270,7 @@ public class SubwayController {
         
         logger.info("외부 API 노선별 역 조회 요청: {}호선", lineNumber);
         
-        return molitApiClient.getStationsByLine(lineNumber)
+        return externalStationCache.getStationsByLine(lineNumber)
             .map(stations -> {
                 logger.info("{}호선 외부 API 조회 결과: {}개 역", lineNumber, stations.size());
                 return ResponseEntity.ok(StandardApiResponse.successWithCount(
@@ -408,10 +466,12 @@ public class SubwayController {
     )
     public ResponseEntity<StandardApiResponse<String>> supplementCoordinates() {
         try {
-            integratedService.supplementMissingCoordinates();
+            if (!syncCoordinator.trigger(SyncCoordinator.Job.COORDINATE_SUPPLEMENT)) {
+                return ErrorHandler.createErrorResponse("좌표 보완 작업이 이미 실행 중입니다 (다른 인스턴스 포함).", 409);
+            }
             return ResponseEntity.ok(StandardApiResponse.success(
                 "좌표 보완 작업이 시작되었습니다",
-                "백그라운드에서 처리됩니다. 진행 상황은 로그를 확인해주세요."
+                "백그라운드에서 처리됩니다. 중단되면 체크포인트부터 이어서 처리하며, 진행 상황은 /api/subway/debug/coordinate-progress 에서 확인하세요."
             ));
         } catch (Exception e) {
             logger.error("좌표 보완 시작 실패: {}", e.getMessage());
@@ -2,6 +2,7 @@ package com.example.transportationserver.controller;
 
 import com.example.transportationserver.dto.StandardApiResponse;
 import com.example.transportationserver.service.SubwayStationIdUpdateService;
+import com.example.transportationserver.service.SyncCoordinator;
 import com.example.transportationserver.util.ErrorHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +28,9 @@ public class SubwayStationIdUpdateController {
     @Autowired
     private SubwayStationIdUpdateService updateService;
     
+    @Autowired
+    private SyncCoordinator syncCoordinator;
+    
     /**
      * MOLIT API에서 subwayStationId 대량 업데이트
      */
@@ -37,15 +41,23 @@ public class SubwayStationIdUpdateController {
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "업데이트 완료"),
+        @ApiResponse(responseCode = "409", description = "다른 인스턴스에서 업데이트 실행 중"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
     @PostMapping("/update-subway-station-ids")
     public ResponseEntity<StandardApiResponse<Map<String, Object>>> updateSubwayStationIds() {
         
+        if (syncCoordinator.isRunning(SyncCoordinator.Job.SUBWAY_STATION_IDS)) {
+            return ErrorHandler.createErrorResponse("지하철역 ID 업데이트가 이미 실행 중입니다 (다른 인스턴스 포함).", 409);
+        }
+        
         return ErrorHandler.handleWithTryCatch(() -> {
             logger.info("===== 지하철역 ID 대량 업데이트 시작 =====");
             
-            Map<String, Object> result = updateService.updateAllSubwayStationIds();
+            // 잠금을 얻은 경우에만 실행 (확인 직후 다른 인스턴스가 먼저 시작한 경우 실패 처리)
+            Map<String, Object> result = syncCoordinator.runExclusive(SyncCoordinator.Job.SUBWAY_STATION_IDS,
+                    updateService::updateAllSubwayStationIds)
+                .orElseThrow(() -> new IllegalStateException("지하철역 ID 업데이트가 다른 인스턴스에서 실행 중입니다."));
             
             logger.info("===== 지하철역 ID 대량 업데이트 완료 =====");
             logger.info("결과: {}", result);
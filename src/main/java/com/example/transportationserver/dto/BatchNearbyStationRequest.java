@@ -0,0 +1,63 @@
+package com.example.transportationserver.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 다중 좌표 근처 지하철역 일괄 조회 API 요청 DTO
+ * 여러 지점(예: 경로 경유지)에 대해 동일한 반경/개수 조건으로 조회
+ */
+@JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+public class BatchNearbyStationRequest {
+    
+    private List<Point> points;
+    
+    private Double radius; // 검색 반경 (km)
+    
+    private Integer limit; // 지점별 최대 결과 개수
+    
+    public BatchNearbyStationRequest() {}
+    
+    public BatchNearbyStationRequest(List<Point> points, Double radius, Integer limit) {
+        this.points = points;
+        this.radius = radius;
+        this.limit = limit;
+    }
+    
+    // Getters and Setters
+    public List<Point> getPoints() { return points; }
+    public void setPoints(List<Point> points) { this.points = points; }
+    
+    public Double getRadius() { return radius; }
+    public void setRadius(Double radius) { this.radius = radius; }
+    
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+    
+    /**
+     * 조회 지점 좌표
+     */
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class Point {
+        
+        private Double latitude;
+        
+        private Double longitude;
+        
+        public Point() {}
+        
+        public Point(Double latitude, Double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+        
+        // Getters and Setters
+        public Double getLatitude() { return latitude; }
+        public void setLatitude(Double latitude) { this.latitude = latitude; }
+        
+        public Double getLongitude() { return longitude; }
+        public void setLongitude(Double longitude) { this.longitude = longitude; }
+    }
+}
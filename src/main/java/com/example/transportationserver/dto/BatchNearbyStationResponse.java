@@ -0,0 +1,94 @@
+package com.example.transportationserver.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 다중 좌표 근처 지하철역 일괄 조회 API 응답 DTO
+ * 요청 지점 순서대로 지점별 그룹화 결과를 반환
+ */
+@JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+public class BatchNearbyStationResponse {
+    
+    private List<PointResult> results;
+    
+    private int totalPoints;
+    
+    private int successCount; // 정상 처리된 지점 수
+    
+    private double searchRadiusKm;
+    
+    public BatchNearbyStationResponse() {}
+    
+    public BatchNearbyStationResponse(List<PointResult> results, int successCount, double searchRadiusKm) {
+        this.results = results;
+        this.totalPoints = results.size();
+        this.successCount = successCount;
+        this.searchRadiusKm = searchRadiusKm;
+    }
+    
+    // Getters and Setters
+    public List<PointResult> getResults() { return results; }
+    public void setResults(List<PointResult> results) { this.results = results; }
+    
+    public int getTotalPoints() { return totalPoints; }
+    public void setTotalPoints(int totalPoints) { this.totalPoints = totalPoints; }
+    
+    public int getSuccessCount() { return successCount; }
+    public void setSuccessCount(int successCount) { this.successCount = successCount; }
+    
+    public double getSearchRadiusKm() { return searchRadiusKm; }
+    public void setSearchRadiusKm(double searchRadiusKm) { this.searchRadiusKm = searchRadiusKm; }
+    
+    /**
+     * 지점별 조회 결과
+     */
+    @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+    public static class PointResult {
+        
+        private int index; // 요청 목록 내 지점 순번
+        
+        private Double latitude;
+        
+        private Double longitude;
+        
+        private List<GroupedNearbyStationResponse.GroupedNearbyStation> stations;
+        
+        private int totalCount;
+        
+        private String error; // 지점 단위 오류 메시지 (정상 처리 시 null)
+        
+        public PointResult() {}
+        
+        public PointResult(int index, Double latitude, Double longitude,
+                          List<GroupedNearbyStationResponse.GroupedNearbyStation> stations, String error) {
+            this.index = index;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.stations = stations;
+            this.totalCount = stations != null ? stations.size() : 0;
+            this.error = error;
+        }
+        
+        // Getters and Setters
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+        
+        public Double getLatitude() { return latitude; }
+        public void setLatitude(Double latitude) { this.latitude = latitude; }
+        
+        public Double getLongitude() { return longitude; }
+        public void setLongitude(Double longitude) { this.longitude = longitude; }
+        
+        public List<GroupedNearbyStationResponse.GroupedNearbyStation> getStations() { return stations; }
+        public void setStations(List<GroupedNearbyStationResponse.GroupedNearbyStation> stations) { this.stations = stations; }
+        
+        public int getTotalCount() { return totalCount; }
+        public void setTotalCount(int totalCount) { this.totalCount = totalCount; }
+        
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+}
@@ -22,6 +22,7 @@ public class GroupedStationResponse {
     private List<StationDetail> details;   // 개별 역 상세 정보
     private int stationCount;              // 그룹에 속한 역 개수
     private String region;                 // 대표 지역
+    private Integer editDistance;          // 오타 허용 검색으로 매칭된 경우 자모 편집 거리 (정확 매칭은 null)
     
     public GroupedStationResponse() {}
     
@@ -97,6 +98,9 @@ public class GroupedStationResponse {
     public String getRegion() { return region; }
     public void setRegion(String region) { this.region = region; }
     
+    public Integer getEditDistance() { return editDistance; }
+    public void setEditDistance(Integer editDistance) { this.editDistance = editDistance; }
+    
     /**
      * 개별 역 상세 정보를 담는 내부 클래스
      */
@@ -0,0 +1,51 @@
+package com.example.transportationserver.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.util.List;
+
+/**
+ * 역명 자동완성(typeahead) 결과 DTO
+ * 같은 역명의 여러 노선은 하나의 제안으로 묶어서 반환
+ */
+@JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
+public class StationSuggestionResponse {
+
+    private String stationName;
+
+    private List<String> lines;
+
+    private String matchType; // EXACT, PREFIX, CHOSUNG_PREFIX, INFIX, CHOSUNG_INFIX
+
+    private String matchedAlias; // 별칭으로 매칭된 경우 해당 별칭
+
+    private int score;
+
+    public StationSuggestionResponse() {}
+
+    public StationSuggestionResponse(String stationName, List<String> lines, String matchType,
+                                     String matchedAlias, int score) {
+        this.stationName = stationName;
+        this.lines = lines;
+        this.matchType = matchType;
+        this.matchedAlias = matchedAlias;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public String getStationName() { return stationName; }
+    public void setStationName(String stationName) { this.stationName = stationName; }
+
+    public List<String> getLines() { return lines; }
+    public void setLines(List<String> lines) { this.lines = lines; }
+
+    public String getMatchType() { return matchType; }
+    public void setMatchType(String matchType) { this.matchType = matchType; }
+
+    public String getMatchedAlias() { return matchedAlias; }
+    public void setMatchedAlias(String matchedAlias) { this.matchedAlias = matchedAlias; }
+
+    public int getScore() { return score; }
+    public void setScore(int score) { this.score = score; }
+}
@@ -34,6 +34,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
     
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<StandardApiResponse<Object>> handleRateLimitExceededException(RateLimitExceededException ex, WebRequest request) {
+        logger.warn("Rate limit exceeded: {}", ex.getMessage());
+        StandardApiResponse<Object> response = StandardApiResponse.error(
+            "외부 API 호출 한도를 초과했습니다",
+            ex.getMessage(),
+            HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<StandardApiResponse<Object>> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
         logger.warn("Invalid argument: {}", ex.getMessage());
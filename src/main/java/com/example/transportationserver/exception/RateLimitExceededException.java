@@ -0,0 +1,11 @@
+package com.example.transportationserver.exception;
+
+/**
+ * 외부 API 일일 호출 한도 소진
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
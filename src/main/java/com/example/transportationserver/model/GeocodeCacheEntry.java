@@ -0,0 +1,63 @@
+package com.example.transportationserver.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지오코딩 결과 캐시 (geocode_cache)
+ * found=false는 검색 결과가 없었던 질의 (부정 캐시, 좌표 없음)
+ */
+public class GeocodeCacheEntry {
+
+    private String queryKey;
+    private String provider;
+    private boolean found;
+    private Double latitude;
+    private Double longitude;
+    private String displayName;
+    private Double confidence;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+
+    public GeocodeCacheEntry() {}
+
+    public GeocodeCacheEntry(String queryKey, String provider, boolean found, Double latitude, Double longitude,
+                             String displayName, Double confidence, LocalDateTime expiresAt) {
+        this.queryKey = queryKey;
+        this.provider = provider;
+        this.found = found;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.displayName = displayName;
+        this.confidence = confidence;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public String getQueryKey() { return queryKey; }
+    public void setQueryKey(String queryKey) { this.queryKey = queryKey; }
+
+    public String getProvider() { return provider; }
+    public void setProvider(String provider) { this.provider = provider; }
+
+    public boolean isFound() { return found; }
+    public void setFound(boolean found) { this.found = found; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public String getDisplayName() { return displayName; }
+    public void setDisplayName(String displayName) { this.displayName = displayName; }
+
+    public Double getConfidence() { return confidence; }
+    public void setConfidence(Double confidence) { this.confidence = confidence; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -1,5 +1,6 @@
 package com.example.transportationserver.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.time.LocalDateTime;
@@ -8,6 +9,11 @@ import java.util.List;
 @JsonNaming(PropertyNamingStrategies.LowerCamelCaseStrategy.class)
 public class SubwayStation {
     
+    // 행을 마지막으로 쓴 동기화 (sync_source, 삭제 판단은 자기 동기화가 쓴 행으로 한정)
+    public static final String SYNC_SOURCE_SEOUL = "SEOUL_SYNC";
+    public static final String SYNC_SOURCE_ENHANCED = "ENHANCED_SYNC";
+    public static final String SYNC_SOURCE_INTEGRATED = "INTEGRATED_SYNC";
+    
     private Long id;
     private String name;
     private String lineNumber;
@@ -23,6 +29,8 @@ public class SubwayStation {
     private String aliases;       // 별칭들 (쉼표로 구분)
     private String dataSource;    // 데이터 출처 (SEOUL_API, MOLIT_API 등)
     private Boolean hasCoordinates; // 좌표 유무
+    private String contentHash;   // 동기화 비교용 내용 해시 (StationContentHash.COLUMNS 전체)
+    private String syncSource;    // 마지막으로 쓴 동기화 (SYNC_SOURCE_*)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -102,4 +110,12 @@ public class SubwayStation {
     
     public Boolean getHasCoordinates() { return hasCoordinates; }
     public void setHasCoordinates(Boolean hasCoordinates) { this.hasCoordinates = hasCoordinates; }
+    
+    @JsonIgnore
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+    
+    @JsonIgnore
+    public String getSyncSource() { return syncSource; }
+    public void setSyncSource(String syncSource) { this.syncSource = syncSource; }
 }
\ No newline at end of file
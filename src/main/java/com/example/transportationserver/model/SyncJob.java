@@ -0,0 +1,85 @@
+package com.example.transportationserver.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재개 가능한 동기화 작업 (sync_jobs)
+ * 역 ID 오름차순으로 처리하며 last_station_id가 체크포인트
+ */
+public class SyncJob {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private Long id;
+    private String jobType;
+    private String status;
+    private Integer totalCount;
+    private Integer processedCount;
+    private Integer successCount;
+    private Integer failureCount;
+    private Long lastStationId;
+    private String currentStation;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public SyncJob() {}
+
+    public SyncJob(String jobType, int totalCount) {
+        this.jobType = jobType;
+        this.status = STATUS_RUNNING;
+        this.totalCount = totalCount;
+        this.processedCount = 0;
+        this.successCount = 0;
+        this.failureCount = 0;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return STATUS_RUNNING.equals(status);
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getJobType() { return jobType; }
+    public void setJobType(String jobType) { this.jobType = jobType; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Integer getTotalCount() { return totalCount; }
+    public void setTotalCount(Integer totalCount) { this.totalCount = totalCount; }
+
+    public Integer getProcessedCount() { return processedCount; }
+    public void setProcessedCount(Integer processedCount) { this.processedCount = processedCount; }
+
+    public Integer getSuccessCount() { return successCount; }
+    public void setSuccessCount(Integer successCount) { this.successCount = successCount; }
+
+    public Integer getFailureCount() { return failureCount; }
+    public void setFailureCount(Integer failureCount) { this.failureCount = failureCount; }
+
+    public Long getLastStationId() { return lastStationId; }
+    public void setLastStationId(Long lastStationId) { this.lastStationId = lastStationId; }
+
+    public String getCurrentStation() { return currentStation; }
+    public void setCurrentStation(String currentStation) { this.currentStation = currentStation; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
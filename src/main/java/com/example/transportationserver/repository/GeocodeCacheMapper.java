@@ -0,0 +1,23 @@
+package com.example.transportationserver.repository;
+
+import com.example.transportationserver.model.GeocodeCacheEntry;
+import org.apache.ibatis.annotations.*;
+
+@Mapper
+public interface GeocodeCacheMapper {
+
+    /**
+     * 만료되지 않은 캐시 항목 (없으면 null)
+     */
+    @Select("SELECT * FROM geocode_cache WHERE query_key = #{queryKey} AND expires_at > CURRENT_TIMESTAMP")
+    GeocodeCacheEntry findValid(@Param("queryKey") String queryKey);
+
+    @Insert("INSERT INTO geocode_cache (query_key, provider, found, latitude, longitude, display_name, confidence, created_at, expires_at) " +
+            "VALUES (#{queryKey}, #{provider}, #{found}, #{latitude}, #{longitude}, #{displayName}, #{confidence}, #{createdAt}, #{expiresAt}) " +
+            "ON CONFLICT (query_key) DO UPDATE SET found = EXCLUDED.found, latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude, " +
+            "display_name = EXCLUDED.display_name, confidence = EXCLUDED.confidence, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at")
+    int upsert(GeocodeCacheEntry entry);
+
+    @Delete("DELETE FROM geocode_cache WHERE expires_at <= CURRENT_TIMESTAMP")
+    int deleteExpired();
+}
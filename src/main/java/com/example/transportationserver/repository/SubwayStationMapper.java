@@ -1,13 +1,21 @@
 package com.example.transportationserver.repository;
 
 import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.StationContentHash;
 import org.apache.ibatis.annotations.*;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface SubwayStationMapper {
     
+    /**
+     * 다중 행 upsert의 내용 컬럼 파라미터 (StationContentHash.COLUMNS와 같은 순서, StationBatchWriter가 시작 시 확인)
+     */
+    String CONTENT_VALUES = "#{s.name}, #{s.lineNumber}, #{s.stationCode}, #{s.latitude}, #{s.longitude}, #{s.address}, "
+        + "#{s.subwayStationId}, #{s.region}, #{s.city}, #{s.fullName}, #{s.aliases}, #{s.dataSource}, #{s.hasCoordinates}";
+    
     @Select("SELECT * FROM subway_stations ORDER BY name")
     List<SubwayStation> findAll();
     
@@ -20,6 +28,14 @@ public interface SubwayStationMapper {
     @Select("SELECT * FROM subway_stations WHERE id = #{id}")
     SubwayStation findById(@Param("id") Long id);
     
+    @Select({
+        "<script>",
+        "SELECT * FROM subway_stations WHERE id IN ",
+        "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+        "</script>"
+    })
+    List<SubwayStation> findByIds(@Param("ids") Collection<Long> ids);
+    
     @Select("SELECT * FROM subway_stations WHERE name LIKE CONCAT('%', #{name}, '%') ORDER BY name")
     List<SubwayStation> findByName(@Param("name") String name);
     
@@ -41,6 +57,71 @@ public interface SubwayStationMapper {
     @Update("UPDATE subway_stations SET name = #{name}, line_number = #{lineNumber}, station_code = #{stationCode}, latitude = #{latitude}, longitude = #{longitude}, address = #{address}, external_id = #{externalId}, subway_station_id = #{subwayStationId}, region = #{region}, city = #{city}, full_name = #{fullName}, aliases = #{aliases}, data_source = #{dataSource}, has_coordinates = #{hasCoordinates}, updated_at = #{updatedAt} WHERE id = #{id}")
     int update(SubwayStation station);
     
+    /**
+     * 외부 ID(서울시 역코드) 기준 다중 행 upsert
+     * 충돌 기준: ux_subway_stations_external_id (external_id IS NOT NULL 부분 유니크 인덱스)
+     * 외부 ID가 없는 행은 항상 신규 삽입, 좌표는 새 값이 있을 때만 갱신
+     */
+    @Insert({
+        "<script>",
+        "INSERT INTO subway_stations (" + StationContentHash.COLUMNS + ", external_id, content_hash, sync_source, created_at, updated_at) VALUES ",
+        "<foreach collection='stations' item='s' separator=','>",
+        "(" + CONTENT_VALUES + ", #{s.externalId}, #{s.contentHash}, #{s.syncSource}, #{s.createdAt}, #{s.updatedAt})",
+        "</foreach>",
+        "ON CONFLICT (external_id) WHERE external_id IS NOT NULL DO UPDATE SET ",
+        "content_hash = EXCLUDED.content_hash, sync_source = EXCLUDED.sync_source, ",
+        "name = EXCLUDED.name, line_number = EXCLUDED.line_number, station_code = EXCLUDED.station_code, address = EXCLUDED.address, ",
+        "latitude = COALESCE(EXCLUDED.latitude, subway_stations.latitude), ",
+        "longitude = COALESCE(EXCLUDED.longitude, subway_stations.longitude), ",
+        "updated_at = EXCLUDED.updated_at",
+        "</script>"
+    })
+    int upsertByExternalId(@Param("stations") List<SubwayStation> stations);
+    
+    /**
+     * 역명 + 지역 + 노선 기준 다중 행 upsert
+     * 충돌 기준: ux_subway_stations_identity (name, COALESCE(region, ''), COALESCE(line_number, '')) 유니크 인덱스
+     * 기존 값은 유지하고 비어 있는 좌표/주소/도시/전체 이름만 보완
+     * external_id는 쓰지 않음 (ux_subway_stations_external_id 충돌 방지, StationBulkLoader와 동일)
+     */
+    @Insert({
+        "<script>",
+        "INSERT INTO subway_stations (" + StationContentHash.COLUMNS + ", sync_source, created_at, updated_at) VALUES ",
+        "<foreach collection='stations' item='s' separator=','>",
+        "(" + CONTENT_VALUES + ", #{s.syncSource}, #{s.createdAt}, #{s.updatedAt})",
+        "</foreach>",
+        "ON CONFLICT (name, (COALESCE(region, '')), (COALESCE(line_number, ''))) DO UPDATE SET ",
+        "latitude = CASE WHEN subway_stations.has_coordinates IS NOT TRUE AND EXCLUDED.has_coordinates IS TRUE THEN EXCLUDED.latitude ELSE subway_stations.latitude END, ",
+        "longitude = CASE WHEN subway_stations.has_coordinates IS NOT TRUE AND EXCLUDED.has_coordinates IS TRUE THEN EXCLUDED.longitude ELSE subway_stations.longitude END, ",
+        "has_coordinates = CASE WHEN subway_stations.has_coordinates IS NOT TRUE AND EXCLUDED.has_coordinates IS TRUE THEN true ELSE subway_stations.has_coordinates END, ",
+        "address = COALESCE(subway_stations.address, EXCLUDED.address), ",
+        "city = COALESCE(subway_stations.city, EXCLUDED.city), ",
+        "full_name = COALESCE(subway_stations.full_name, EXCLUDED.full_name), ",
+        "updated_at = EXCLUDED.updated_at",
+        "</script>"
+    })
+    int upsertByIdentity(@Param("stations") List<SubwayStation> stations);
+    
+    /**
+     * 역명 + 지역 + 노선 기준 다중 행 upsert (외부 ID가 없는 서울시 API 역)
+     * 충돌 기준: ux_subway_stations_identity, 갱신 컬럼은 upsertByExternalId와 동일
+     */
+    @Insert({
+        "<script>",
+        "INSERT INTO subway_stations (" + StationContentHash.COLUMNS + ", content_hash, sync_source, created_at, updated_at) VALUES ",
+        "<foreach collection='stations' item='s' separator=','>",
+        "(" + CONTENT_VALUES + ", #{s.contentHash}, #{s.syncSource}, #{s.createdAt}, #{s.updatedAt})",
+        "</foreach>",
+        "ON CONFLICT (name, (COALESCE(region, '')), (COALESCE(line_number, ''))) DO UPDATE SET ",
+        "content_hash = EXCLUDED.content_hash, sync_source = EXCLUDED.sync_source, ",
+        "station_code = EXCLUDED.station_code, address = EXCLUDED.address, ",
+        "latitude = COALESCE(EXCLUDED.latitude, subway_stations.latitude), ",
+        "longitude = COALESCE(EXCLUDED.longitude, subway_stations.longitude), ",
+        "updated_at = EXCLUDED.updated_at",
+        "</script>"
+    })
+    int upsertContentByIdentity(@Param("stations") List<SubwayStation> stations);
+    
     @Delete("DELETE FROM subway_stations WHERE id = #{id}")
     int deleteById(@Param("id") Long id);
     
@@ -59,6 +140,12 @@ public interface SubwayStationMapper {
     @Select("SELECT COUNT(*) FROM subway_stations WHERE (latitude IS NULL OR longitude IS NULL OR latitude = 0 OR longitude = 0)")
     int countStationsWithoutCoordinates();
     
+    /**
+     * 체크포인트 이후의 좌표 없는 역 (재개 가능한 작업용, ID 오름차순)
+     */
+    @Select("SELECT * FROM subway_stations WHERE (latitude IS NULL OR longitude IS NULL OR latitude = 0 OR longitude = 0) AND id > #{afterId} ORDER BY id")
+    List<SubwayStation> findStationsWithoutCoordinatesAfter(@Param("afterId") long afterId);
+    
     @Update("UPDATE subway_stations SET latitude = #{latitude}, longitude = #{longitude}, has_coordinates = CASE WHEN #{latitude} IS NOT NULL AND #{longitude} IS NOT NULL THEN true ELSE false END, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
     int updateCoordinates(@Param("id") Long id, 
                          @Param("latitude") Double latitude, 
@@ -0,0 +1,66 @@
+package com.example.transportationserver.repository;
+
+import com.example.transportationserver.model.SyncJob;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface SyncJobMapper {
+
+    @Insert("INSERT INTO sync_jobs (job_type, status, total_count, processed_count, success_count, failure_count, started_at, updated_at) VALUES (#{jobType}, #{status}, #{totalCount}, #{processedCount}, #{successCount}, #{failureCount}, #{startedAt}, #{updatedAt})")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insert(SyncJob job);
+
+    @Select("SELECT * FROM sync_jobs WHERE id = #{id}")
+    SyncJob findById(@Param("id") Long id);
+
+    @Select("SELECT * FROM sync_jobs WHERE job_type = #{jobType} ORDER BY id DESC LIMIT 1")
+    SyncJob findLatest(@Param("jobType") String jobType);
+
+    /**
+     * 이어서 처리할 작업 (실행 중이었거나 실패한 가장 최근 작업)
+     */
+    @Select("SELECT * FROM sync_jobs WHERE job_type = #{jobType} AND status IN ('RUNNING', 'FAILED') ORDER BY id DESC LIMIT 1")
+    SyncJob findResumable(@Param("jobType") String jobType);
+
+    /**
+     * 프로세스 시작 시점의 RUNNING 작업은 이전 프로세스에서 중단된 작업
+     */
+    @Select("SELECT * FROM sync_jobs WHERE status = 'RUNNING' ORDER BY id")
+    List<SyncJob> findRunning();
+
+    @Update("UPDATE sync_jobs SET status = 'RUNNING', error_message = NULL, finished_at = NULL, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int markRunning(@Param("id") Long id);
+
+    /**
+     * 역 하나 처리 후 체크포인트 갱신 (insertItem과 같은 트랜잭션)
+     */
+    @Update("UPDATE sync_jobs SET processed_count = processed_count + 1, success_count = success_count + CASE WHEN #{success} THEN 1 ELSE 0 END, failure_count = failure_count + CASE WHEN #{success} THEN 0 ELSE 1 END, last_station_id = GREATEST(COALESCE(last_station_id, 0), #{stationId}), current_station = #{currentStation}, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int updateCheckpoint(@Param("id") Long id,
+                         @Param("stationId") Long stationId,
+                         @Param("currentStation") String currentStation,
+                         @Param("success") boolean success);
+
+    @Update("UPDATE sync_jobs SET status = #{status}, error_message = #{errorMessage}, current_station = NULL, finished_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int finish(@Param("id") Long id, @Param("status") String status, @Param("errorMessage") String errorMessage);
+
+    /**
+     * 역별 처리 결과 기록 (재개 시 같은 역이 다시 처리되면 0행)
+     */
+    @Insert("INSERT INTO sync_job_items (job_id, station_id, outcome, message, processed_at) VALUES (#{jobId}, #{stationId}, #{outcome}, #{message}, CURRENT_TIMESTAMP) ON CONFLICT (job_id, station_id) DO NOTHING")
+    int insertItem(@Param("jobId") Long jobId,
+                   @Param("stationId") Long stationId,
+                   @Param("outcome") String outcome,
+                   @Param("message") String message);
+
+    /**
+     * 어느 인스턴스든 해당 작업의 advisory lock을 보유 중인지 (pg_advisory_lock(int, int) 형식은 objsubid = 2)
+     */
+    @Select("SELECT EXISTS (SELECT 1 FROM pg_locks WHERE locktype = 'advisory' AND classid = #{namespace}::oid AND objid = #{key}::oid AND objsubid = 2 AND granted)")
+    boolean isAdvisoryLockHeld(@Param("namespace") int namespace, @Param("key") int key);
+
+    @Select("SELECT outcome, COUNT(*) AS count FROM sync_job_items WHERE job_id = #{jobId} GROUP BY outcome")
+    List<Map<String, Object>> countItemsByOutcome(@Param("jobId") Long jobId);
+}
@@ -1,7 +1,7 @@
 package com.example.transportationserver.service;
 
 import com.example.transportationserver.model.SubwayStation;
-import com.example.transportationserver.util.ReactiveRateLimiter;
+import com.example.transportationserver.model.SyncJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +13,7 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -33,13 +34,14 @@ public class BatchCoordinateService {
     private StreamingStationService streamingStationService;
     
     @Autowired
-    private ReactiveRateLimiter rateLimiter;
+    private SyncJobService syncJobService;
     
-    // 진행 상황 추적
-    private final AtomicInteger totalCount = new AtomicInteger(0);
+    // 스트리밍 방식 진행 상황 추적 (배치 방식은 sync_jobs 테이블 기준)
+    private final AtomicBoolean streamingActive = new AtomicBoolean(false);
     private final AtomicInteger currentCount = new AtomicInteger(0);
     private final AtomicInteger successCount = new AtomicInteger(0);
     private final AtomicInteger failureCount = new AtomicInteger(0);
+    private volatile SyncJob streamingJob; // 전체 대상 수는 시작 시 sync_jobs에 기록한 값 사용
     
     /**
      * 스트리밍 방식으로 좌표 보완 (메모리 효율적)
@@ -48,10 +50,16 @@ public class BatchCoordinateService {
     public CompletableFuture<CoordinateSupplementResult> supplementCoordinatesStreaming() {
         logger.info("=== 스트리밍 좌표 보완 작업 시작 ===");
         
+        // 실행 기록 (시작 시점의 좌표 없는 역 수를 전체 대상 수로 기록)
+        SyncJob job = syncJobService.start(SyncJobService.JOB_COORDINATE_STREAMING,
+            stationService.getCoordinateStatistics().getMissingCoordinates());
+        
         // 카운터 초기화
         currentCount.set(0);
         successCount.set(0);
         failureCount.set(0);
+        streamingJob = job;
+        streamingActive.set(true);
         
         return streamingStationService
             .processStationsWithoutCoordinatesStreaming(this::processStationAsync, 20) // 20개씩 배치
@@ -71,35 +79,56 @@ public class BatchCoordinateService {
                 logger.info("📈 성공률: {:.1f}%", 
                     result.total > 0 ? (double) result.success / result.total * 100 : 0);
             })
+            .doOnSuccess(result -> syncJobService.complete(job))
+            .doOnError(error -> syncJobService.fail(job, error.getMessage()))
+            .doOnCancel(() -> syncJobService.fail(job, "취소됨"))
+            .doFinally(signal -> streamingActive.set(false))
             .toFuture();
     }
     
     /**
      * 기존 배치 처리 방식 (하위 호환성)
+     * 역 ID 순으로 처리하며 역마다 sync_jobs 체크포인트를 기록하므로, 중단되면 다음 실행(또는 재시작) 시 이어서 처리
      */
     @Async
     public CompletableFuture<CoordinateSupplementResult> supplementCoordinatesBatch() {
         logger.info("=== 배치 좌표 보완 작업 시작 ===");
         
-        // 좌표가 없는 역들 조회
-        List<SubwayStation> stationsWithoutCoords = stationService.getStationsWithoutCoordinates();
+        SyncJob job = syncJobService.startOrResume(SyncJobService.JOB_COORDINATE_BATCH,
+            stationService.getCoordinateStatistics().getMissingCoordinates());
+        if (job == null) {
+            return CompletableFuture.completedFuture(new CoordinateSupplementResult(0, 0, 0));
+        }
+        
+        // 체크포인트 이후의 좌표가 없는 역들 조회
+        List<SubwayStation> stationsWithoutCoords;
+        try {
+            stationsWithoutCoords = stationService.getStationsWithoutCoordinatesAfter(job.getLastStationId());
+        } catch (RuntimeException e) {
+            syncJobService.fail(job, e.getMessage());
+            throw e;
+        }
         
         if (stationsWithoutCoords.isEmpty()) {
             logger.info("모든 역에 좌표가 이미 존재합니다.");
+            syncJobService.complete(job);
             return CompletableFuture.completedFuture(new CoordinateSupplementResult(0, 0, 0));
         }
         
-        // 카운터 초기화
-        totalCount.set(stationsWithoutCoords.size());
-        currentCount.set(0);
-        successCount.set(0);
-        failureCount.set(0);
-        
-        logger.info("좌표가 없는 역 수: {}개", totalCount.get());
+        logger.info("좌표가 없는 역 수: {}개 (작업 #{}, 체크포인트 역 ID {})", 
+            stationsWithoutCoords.size(), job.getId(), job.getLastStationId());
         logger.info("예상 소요 시간: {:.1f}분 (OpenStreetMap API 제한)", 
-            Math.ceil(totalCount.get() / 60.0));
+            Math.ceil(stationsWithoutCoords.size() / 60.0));
         
-        return processStationsBatchOptimized(stationsWithoutCoords)
+        SyncJob batchJob = job;
+        return processStationsBatchOptimized(batchJob, stationsWithoutCoords)
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    syncJobService.fail(batchJob, error.getMessage());
+                } else {
+                    syncJobService.complete(batchJob);
+                }
+            })
             .thenApply(result -> {
                 logger.info("=== 배치 좌표 보완 작업 완료 ===");
                 logger.info("🎯 처리 결과: 전체 {}개, 성공 {}개, 실패 {}개", 
@@ -112,28 +141,31 @@ public class BatchCoordinateService {
     
     /**
      * 최적화된 배치 처리 - 스트리밍과 백프레셔 적용
+     * 역 ID 순서대로 하나씩 처리하고 체크포인트를 기록한 뒤 다음 역으로 진행
      */
     private CompletableFuture<CoordinateSupplementResult> processStationsBatchOptimized(
-            List<SubwayStation> stations) {
+            SyncJob job, List<SubwayStation> stations) {
+        
+        AtomicInteger processed = new AtomicInteger(0);
         
         return Flux.fromIterable(stations)
             .index() // 인덱스와 함께 처리
-            .flatMap(indexedStation -> {
+            .concatMap(indexedStation -> {
                 long index = indexedStation.getT1();
                 SubwayStation station = indexedStation.getT2();
                 
-                return processStationWithRateLimit(station, index)
+                // 동시 처리 수 1 (OpenStreetMap API 정책), 체크포인트는 처리 순서대로 기록
+                return processStationWithRateLimit(station, index, stations.size())
+                    .flatMap(result -> recordCheckpoint(job, result))
                     .doOnSuccess(result -> {
                         // 진행률 로깅 (5%마다)
-                        int current = currentCount.incrementAndGet();
+                        int current = processed.incrementAndGet();
                         if (current % Math.max(1, stations.size() / 20) == 0) {
                             double progress = ((double) current / stations.size()) * 100;
-                            logger.info("📊 진행률: {:.1f}% ({}/{}) - 성공: {}, 실패: {}", 
-                                progress, current, stations.size(), 
-                                successCount.get(), failureCount.get());
+                            logger.info("📊 진행률: {:.1f}% ({}/{})", progress, current, stations.size());
                         }
                     });
-            }, 1) // 동시 처리 수 1로 제한 (OpenStreetMap API 정책)
+            })
             .reduce(new CoordinateSupplementResult(0, 0, 0), (acc, result) -> {
                 acc.total++;
                 if (result.success) {
@@ -147,45 +179,48 @@ public class BatchCoordinateService {
     }
     
     /**
-     * Rate Limit이 적용된 개별 역 처리
+     * 역별 처리 결과와 체크포인트 기록 (실패 시 작업 중단, 다음 실행 때 이 역부터 재개)
+     */
+    private Mono<StationProcessResult> recordCheckpoint(SyncJob job, StationProcessResult result) {
+        return Mono.fromCallable(() -> {
+            syncJobService.recordOutcome(job, result.station, result.outcome, result.errorMessage);
+            return result;
+        }).subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic());
+    }
+    
+    /**
+     * 개별 역 처리 (OSM 호출 간격은 OpenStreetMapService 내부 limiter가 보장)
      */
-    private Mono<StationProcessResult> processStationWithRateLimit(SubwayStation station, long index) {
+    private Mono<StationProcessResult> processStationWithRateLimit(SubwayStation station, long index, int total) {
         logger.debug("[{}/{}] 좌표 보완 시도: {} ({}호선)", 
-            index + 1, totalCount.get(), station.getName(), station.getLineNumber());
+            index + 1, total, station.getName(), station.getLineNumber());
         
-        return rateLimiter.executeLimited(
-            ReactiveRateLimiter.ApiType.OPENSTREETMAP,
-            openStreetMapService.searchStationCoordinates(
+        return openStreetMapService.searchStationCoordinates(
                 station.getName(), 
                 station.getRegion() != null ? station.getRegion() : "서울특별시"
             )
-        )
         .flatMap(coordinate -> {
             if (coordinate.isPresent()) {
                 return updateStationCoordinate(station, coordinate.get())
                     .map(updated -> {
                         if (updated) {
-                            successCount.incrementAndGet();
                             logger.info("✅ 좌표 보완 성공: {} -> ({:.6f}, {:.6f})", 
                                 station.getName(), coordinate.get().getLatitude(), coordinate.get().getLongitude());
-                            return new StationProcessResult(station, true, null);
+                            return new StationProcessResult(station, SyncJobService.OUTCOME_SUCCESS, null);
                         } else {
-                            failureCount.incrementAndGet();
                             logger.warn("❌ 좌표 업데이트 실패: {}", station.getName());
-                            return new StationProcessResult(station, false, "데이터베이스 업데이트 실패");
+                            return new StationProcessResult(station, SyncJobService.OUTCOME_UPDATE_FAILED, "데이터베이스 업데이트 실패");
                         }
                     });
             } else {
-                failureCount.incrementAndGet();
                 logger.warn("🔍 좌표를 찾을 수 없음: {} ({}호선)", 
                     station.getName(), station.getLineNumber());
-                return Mono.just(new StationProcessResult(station, false, "좌표 검색 실패"));
+                return Mono.just(new StationProcessResult(station, SyncJobService.OUTCOME_NOT_FOUND, "좌표 검색 실패"));
             }
         })
         .onErrorResume(error -> {
-            failureCount.incrementAndGet();
             logger.error("좌표 보완 중 오류 발생: {}, 오류: {}", station.getName(), error.getMessage());
-            return Mono.just(new StationProcessResult(station, false, error.getMessage()));
+            return Mono.just(new StationProcessResult(station, SyncJobService.OUTCOME_ERROR, error.getMessage()));
         });
     }
     
@@ -194,7 +229,7 @@ public class BatchCoordinateService {
      */
     private Mono<Boolean> updateStationCoordinate(SubwayStation station, OpenStreetMapService.Coordinate coord) {
         return Mono.fromCallable(() -> 
-            stationService.updateStationCoordinates(station.getId(), coord.getLatitude(), coord.getLongitude())
+            stationService.updateStationCoordinates(station, coord.getLatitude(), coord.getLongitude())
         ).subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic());
     }
     
@@ -213,14 +248,11 @@ public class BatchCoordinateService {
             
             logger.debug("좌표 보완 시도: {} ({}호선)", station.getName(), station.getLineNumber());
             
-            // Rate Limiter 적용하여 OpenStreetMap API 호출
+            // OpenStreetMap API 호출 (호출 간격은 OpenStreetMapService 내부 limiter가 보장)
             Optional<OpenStreetMapService.Coordinate> coordinate = 
-                rateLimiter.executeLimited(
-                    ReactiveRateLimiter.ApiType.OPENSTREETMAP,
-                    openStreetMapService.searchStationCoordinates(
-                        station.getName(), 
-                        station.getRegion() != null ? station.getRegion() : "서울특별시"
-                    )
+                openStreetMapService.searchStationCoordinates(
+                    station.getName(), 
+                    station.getRegion() != null ? station.getRegion() : "서울특별시"
                 ).block(); // 스트리밍 컨텍스트에서는 blocking 허용
             
             if (coordinate.isPresent()) {
@@ -228,41 +260,56 @@ public class BatchCoordinateService {
                 
                 // 데이터베이스에 좌표 업데이트
                 boolean updated = stationService.updateStationCoordinates(
-                    station.getId(), coord.getLatitude(), coord.getLongitude());
+                    station, coord.getLatitude(), coord.getLongitude());
                 
                 if (updated) {
                     successCount.incrementAndGet();
                     logger.info("✅ 좌표 보완 성공: {} -> ({:.6f}, {:.6f})", 
                         station.getName(), coord.getLatitude(), coord.getLongitude());
-                    return new StationProcessResult(station, true, null);
+                    return new StationProcessResult(station, SyncJobService.OUTCOME_SUCCESS, null);
                 } else {
                     failureCount.incrementAndGet();
                     logger.warn("❌ 좌표 업데이트 실패: {}", station.getName());
-                    return new StationProcessResult(station, false, "데이터베이스 업데이트 실패");
+                    return new StationProcessResult(station, SyncJobService.OUTCOME_UPDATE_FAILED, "데이터베이스 업데이트 실패");
                 }
             } else {
                 failureCount.incrementAndGet();
                 logger.warn("🔍 좌표를 찾을 수 없음: {} ({}호선)", 
                     station.getName(), station.getLineNumber());
-                return new StationProcessResult(station, false, "좌표 검색 실패");
+                return new StationProcessResult(station, SyncJobService.OUTCOME_NOT_FOUND, "좌표 검색 실패");
             }
             
         } catch (Exception e) {
             failureCount.incrementAndGet();
             logger.error("좌표 보완 중 오류 발생: {}, 오류: {}", station.getName(), e.getMessage());
-            return new StationProcessResult(station, false, e.getMessage());
+            return new StationProcessResult(station, SyncJobService.OUTCOME_ERROR, e.getMessage());
         }
     }
     
     /**
      * 진행 상황 조회
+     * 스트리밍 방식이 실행 중이면 메모리 카운터, 아니면 배치 작업의 sync_jobs 체크포인트 기준
      */
     public CoordinateProgress getProgress() {
+        SyncJob job = streamingJob;
+        if (streamingActive.get() && job != null) {
+            return new CoordinateProgress(
+                job.getTotalCount(),
+                currentCount.get(),
+                successCount.get(),
+                failureCount.get()
+            );
+        }
+        
+        job = syncJobService.getLatest(SyncJobService.JOB_COORDINATE_BATCH);
+        if (job == null) {
+            return new CoordinateProgress(0, 0, 0, 0);
+        }
         return new CoordinateProgress(
-            totalCount.get(),
-            currentCount.get(),
-            successCount.get(),
-            failureCount.get()
+            job.getTotalCount(),
+            job.getProcessedCount(),
+            job.getSuccessCount(),
+            job.getFailureCount()
         );
     }
     
@@ -297,12 +344,14 @@ public class BatchCoordinateService {
     
     private static class StationProcessResult {
         final SubwayStation station;
+        final String outcome;
         final boolean success;
         final String errorMessage;
         
-        StationProcessResult(SubwayStation station, boolean success, String errorMessage) {
+        StationProcessResult(SubwayStation station, String outcome, String errorMessage) {
             this.station = station;
-            this.success = success;
+            this.outcome = outcome;
+            this.success = SyncJobService.OUTCOME_SUCCESS.equals(outcome);
             this.errorMessage = errorMessage;
         }
     }
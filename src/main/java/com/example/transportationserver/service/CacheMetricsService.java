@@ -0,0 +1,81 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.util.HotKeyTracker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 캐시 통계 조회 서비스
+ * Caffeine recordStats 통계(적중률, 제거 수, 로드 시간, 크기)와 인기 키 상위 N개를 제공
+ * 동일한 통계는 Micrometer 레지스트리(/actuator/metrics의 cache.*)에도 바인딩됨
+ */
+@Service
+public class CacheMetricsService {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HotKeyTracker hotKeyTracker;
+
+    @Value("${cache.metrics.top-n:20}")
+    private int topN;
+
+    /**
+     * 전체 캐시 통계 (캐시명 → 통계)
+     */
+    public Map<String, Object> getCacheStatistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String cacheName : new TreeSet<>(cacheManager.getCacheNames())) {
+            result.put(cacheName, getCacheStatistics(cacheName));
+        }
+        return result;
+    }
+
+    /**
+     * 단일 캐시 통계
+     */
+    public Map<String, Object> getCacheStatistics(String cacheName) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache)) {
+            stats.put("available", false);
+            return stats;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = ((CaffeineCache) cache).getNativeCache();
+        CacheStats cacheStats = nativeCache.stats();
+
+        stats.put("available", true);
+        stats.put("estimatedSize", nativeCache.estimatedSize());
+        stats.put("requestCount", cacheStats.requestCount());
+        stats.put("hitCount", cacheStats.hitCount());
+        stats.put("missCount", cacheStats.missCount());
+        stats.put("hitRate", round(cacheStats.hitRate()));
+        stats.put("missRate", round(cacheStats.missRate()));
+        stats.put("evictionCount", cacheStats.evictionCount());
+        stats.put("evictionWeight", cacheStats.evictionWeight());
+        stats.put("loadCount", cacheStats.loadCount());
+        stats.put("loadFailureCount", cacheStats.loadFailureCount());
+        stats.put("totalLoadTimeMs", cacheStats.totalLoadTime() / 1_000_000);
+        stats.put("averageLoadPenaltyMs", round(cacheStats.averageLoadPenalty() / 1_000_000.0));
+
+        if (hotKeyTracker.getTrackedCaches().contains(cacheName)) {
+            stats.put("hotKeys", hotKeyTracker.topKeys(cacheName, topN));
+        }
+        return stats;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10000.0) / 10000.0;
+    }
+}
@@ -2,19 +2,23 @@ package com.example.transportationserver.service;
 
 import com.example.transportationserver.dto.SubwayStationApiDto;
 import com.example.transportationserver.model.SubwayStation;
-import com.example.transportationserver.repository.SubwayStationMapper;
 import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
 import com.example.transportationserver.service.OpenStreetMapClient.CoordinateResult;
 import com.example.transportationserver.util.DataMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,56 +30,72 @@ public class EnhancedSubwayDataService {
     private KoreanSubwayApiClient seoulApiClient;
     
     @Autowired
-    private MolitApiClient molitApiClient;
+    private MolitBatchCollector molitBatchCollector;
     
     @Autowired
     private OpenStreetMapClient osmClient;
     
     @Autowired
-    private SubwayStationMapper stationMapper;
+    private StationSpatialIndex spatialIndex;
     
     @Autowired
-    private RateLimitService rateLimitService;
+    private StationNameIndex nameIndex;
+    
+    @Autowired
+    private StationSnapshotStore snapshotStore;
+    
+    @Autowired
+    private StationBatchWriter batchWriter;
+    
+    @Autowired
+    private StationCacheInvalidator cacheInvalidator;
+    
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
     
     /**
      * 다층 데이터 수집 메인 프로세스
+     * MOLIT 수집과 OSM 좌표 보완은 논블로킹으로 진행하고, 데이터 통합과 DB 저장만 작업 스레드 풀에서 실행
      */
     @Async
     public CompletableFuture<Void> performEnhancedDataSync() {
         logger.info("=== 향상된 다층 데이터 동기화 시작 ===");
         
-        try {
-            // 1단계: 서울시 API에서 기본 역명 리스트 수집
-            logger.info("1단계: 서울시 API에서 기본 역명 수집");
-            Set<String> stationNames = collectStationNamesFromSeoul();
-            logger.info("서울시 API에서 {} 개 역명 수집 완료", stationNames.size());
-            
-            // 2단계: 각 역에 대해 국토교통부 API로 상세정보 보완
-            logger.info("2단계: 국토교통부 API로 상세정보 보완");
-            Map<String, List<MolitStationInfo>> molitDataMap = collectMolitData(stationNames);
-            logger.info("국토교통부 API에서 {} 개 역의 상세정보 수집", molitDataMap.size());
-            
-            // 3단계: 역별 데이터 통합 및 저장
-            logger.info("3단계: 데이터 통합 및 중복 처리");
-            List<SubwayStation> consolidatedStations = consolidateStationData(stationNames, molitDataMap);
-            logger.info("{} 개 통합 역 데이터 생성", consolidatedStations.size());
-            
-            // 4단계: 좌표가 없는 역들에 대해 OpenStreetMap 검색 (배치 처리)
-            logger.info("4단계: OpenStreetMap으로 좌표 보완");
-            enrichWithCoordinates(consolidatedStations);
-            
-            // 5단계: 최종 데이터베이스 저장
-            logger.info("5단계: 데이터베이스 저장");
-            saveConsolidatedData(consolidatedStations);
-            
-            logger.info("=== 향상된 다층 데이터 동기화 완료 ===");
-            
-        } catch (Exception e) {
-            logger.error("Enhanced data sync failed", e);
-            throw new RuntimeException("Enhanced data sync failed", e);
-        }
+        // 1단계: 서울시 API에서 기본 역명 리스트 수집
+        logger.info("1단계: 서울시 API에서 기본 역명 수집");
+        Set<String> stationNames = collectStationNamesFromSeoul();
+        logger.info("서울시 API에서 {} 개 역명 수집 완료", stationNames.size());
         
-        return CompletableFuture.completedFuture(null);
+        // 2단계: 각 역에 대해 국토교통부 API로 상세정보 보완
+        logger.info("2단계: 국토교통부 API로 상세정보 보완");
+        return molitBatchCollector.collect(stationNames).toFuture()
+            .thenApplyAsync(molitDataMap -> {
+                logger.info("국토교통부 API에서 {} 개 역의 상세정보 수집", molitDataMap.size());
+                
+                // 3단계: 역별 데이터 통합 및 저장
+                logger.info("3단계: 데이터 통합 및 중복 처리");
+                List<SubwayStation> consolidatedStations = consolidateStationData(stationNames, molitDataMap);
+                logger.info("{} 개 통합 역 데이터 생성", consolidatedStations.size());
+                return consolidatedStations;
+            }, taskExecutor)
+            .thenCompose(consolidatedStations -> {
+                // 4단계: 좌표가 없는 역들에 대해 OpenStreetMap 검색 (순차 요청, 호출 간격은 limiter가 보장)
+                logger.info("4단계: OpenStreetMap으로 좌표 보완");
+                return enrichWithCoordinates(consolidatedStations).thenApply(processed -> consolidatedStations);
+            })
+            .thenAcceptAsync(consolidatedStations -> {
+                // 5단계: 최종 데이터베이스 저장
+                logger.info("5단계: 데이터베이스 저장");
+                saveConsolidatedData(consolidatedStations);
+                
+                logger.info("=== 향상된 다층 데이터 동기화 완료 ===");
+            }, taskExecutor)
+            .whenComplete((ignored, error) -> {
+                if (error != null) {
+                    logger.error("Enhanced data sync failed", error);
+                }
+            });
     }
     
     /**
@@ -106,9 +126,6 @@ public class EnhancedSubwayDataService {
                         }
                     });
                     currentPage++;
-                    
-                    // API 호출 제한 고려
-                    rateLimitService.waitForSeoulApi();
                 }
             }
             
@@ -119,30 +136,6 @@ public class EnhancedSubwayDataService {
         return stationNames;
     }
     
-    /**
-     * 국토교통부 API로 각 역의 상세정보 수집
-     */
-    private Map<String, List<MolitStationInfo>> collectMolitData(Set<String> stationNames) {
-        Map<String, List<MolitStationInfo>> molitDataMap = new HashMap<>();
-        
-        for (String stationName : stationNames) {
-            try {
-                List<MolitStationInfo> molitData = molitApiClient.getStationDetails(stationName).block();
-                if (molitData != null && !molitData.isEmpty()) {
-                    molitDataMap.put(stationName, molitData);
-                }
-                
-                // API 호출 제한 고려
-                rateLimitService.waitForMolit();
-                
-            } catch (Exception e) {
-                logger.warn("Failed to get MOLIT data for station: {}", stationName);
-            }
-        }
-        
-        return molitDataMap;
-    }
-    
     /**
      * 데이터 통합 및 중복 처리
      */
@@ -183,7 +176,9 @@ public class EnhancedSubwayDataService {
      * 기본 역 생성 (MOLIT 데이터 없는 경우)
      */
     private SubwayStation createBasicStation(String stationName) {
-        return DataMapper.createBasicStation(stationName, "1");
+        SubwayStation station = DataMapper.createBasicStation(stationName, "1");
+        station.setSyncSource(SubwayStation.SYNC_SOURCE_ENHANCED);
+        return station;
     }
     
     /**
@@ -195,12 +190,13 @@ public class EnhancedSubwayDataService {
         station.setName(molitInfo.getStationName());
         station.setRegion(region);
         station.setCity(molitInfo.getSggName());
-        station.setExternalId(molitInfo.getStationId());
-        station.setSubwayStationId(molitInfo.getStationId()); // MOLIT API subwayStationId 저장
+        // external_id는 서울시 동기화의 충돌 키이므로 비워 둠 (MOLIT ID는 subway_station_id에만 저장)
+        station.setSubwayStationId(molitInfo.getStationId());
         station.setAddress(Optional.ofNullable(molitInfo.getRoadAddress())
                 .orElse(molitInfo.getLotAddress()));
         station.setLineNumber(molitInfo.getRouteName());
         station.setDataSource("MOLIT_API");
+        station.setSyncSource(SubwayStation.SYNC_SOURCE_ENHANCED);
         
         // 좌표 설정
         if (molitInfo.hasValidCoordinates()) {
@@ -228,94 +224,83 @@ public class EnhancedSubwayDataService {
     
     /**
      * OpenStreetMap으로 좌표 보완 (1초 제한 적용)
+     * 역마다 요청을 순서대로 이어 붙이고(concatMap) 응답이 오면 역 객체에 반영, 대기 중에 스레드를 점유하지 않음
+     * @return 처리한 역 수
      */
-    private void enrichWithCoordinates(List<SubwayStation> stations) {
+    private CompletableFuture<Integer> enrichWithCoordinates(List<SubwayStation> stations) {
         List<SubwayStation> stationsNeedingCoordinates = stations.stream()
                 .filter(station -> !Boolean.TRUE.equals(station.getHasCoordinates()))
                 .collect(Collectors.toList());
         
         logger.info("좌표가 필요한 역: {} 개", stationsNeedingCoordinates.size());
         
-        int processed = 0;
-        for (SubwayStation station : stationsNeedingCoordinates) {
-            try {
-                CoordinateResult result = osmClient.searchStationCoordinates(
-                        station.getName(), station.getRegion()).block();
-                
-                if (result != null && result.isValid()) {
-                    station.setLatitude(result.getLatitude());
-                    station.setLongitude(result.getLongitude());
-                    station.setHasCoordinates(true);
-                    
-                    if (station.getAddress() == null && result.getAddress() != null) {
-                        station.setAddress(result.getAddress());
-                    }
-                    
-                    logger.debug("좌표 보완 완료: {} -> lat={}, lon={}", 
-                            station.getName(), result.getLatitude(), result.getLongitude());
+        AtomicInteger processed = new AtomicInteger();
+        return Flux.fromIterable(stationsNeedingCoordinates)
+            .concatMap(station -> osmClient.searchStationCoordinates(station.getName(), station.getRegion())
+                .filter(CoordinateResult::isValid)
+                .doOnNext(result -> applyCoordinates(station, result))
+                .onErrorResume(error -> {
+                    logger.warn("Failed to get coordinates for station: {}", station.getName());
+                    return Mono.empty();
+                })
+                .then(Mono.fromSupplier(processed::incrementAndGet)))
+            .doOnNext(count -> {
+                if (count % 10 == 0) {
+                    logger.info("좌표 보완 진행: {}/{}", count, stationsNeedingCoordinates.size());
                 }
-                
-                processed++;
-                if (processed % 10 == 0) {
-                    logger.info("좌표 보완 진행: {}/{}", processed, stationsNeedingCoordinates.size());
-                }
-                
-            } catch (Exception e) {
-                logger.warn("Failed to get coordinates for station: {}", station.getName());
-            }
+            })
+            .then(Mono.fromSupplier(processed::get))
+            .doOnNext(count -> logger.info("좌표 보완 완료: {}/{} 역 처리", count, stationsNeedingCoordinates.size()))
+            .toFuture();
+    }
+    
+    private void applyCoordinates(SubwayStation station, CoordinateResult result) {
+        station.setLatitude(result.getLatitude());
+        station.setLongitude(result.getLongitude());
+        station.setHasCoordinates(true);
+        
+        if (station.getAddress() == null && result.getAddress() != null) {
+            station.setAddress(result.getAddress());
         }
         
-        logger.info("좌표 보완 완료: {}/{} 역 처리", processed, stationsNeedingCoordinates.size());
+        logger.debug("좌표 보완 완료: {} -> lat={}, lon={}", 
+                station.getName(), result.getLatitude(), result.getLongitude());
     }
     
     /**
-     * 통합된 데이터를 데이터베이스에 저장
+     * 통합된 데이터를 데이터베이스에 저장 (역명 + 지역 + 노선 기준 일괄 upsert)
      */
     private void saveConsolidatedData(List<SubwayStation> stations) {
-        int saved = 0;
-        int updated = 0;
-        
+        // 같은 키의 역은 하나로 병합 (한 upsert 구문에서 같은 행을 두 번 갱신할 수 없음)
+        Map<String, SubwayStation> merged = new LinkedHashMap<>();
         for (SubwayStation station : stations) {
-            try {
-                // 기존 데이터 확인 (이름 + 지역으로)
-                SubwayStation existing = findExistingStation(station);
-                
-                if (existing == null) {
-                    stationMapper.insert(station);
-                    saved++;
-                } else {
-                    // 기존 데이터 업데이트
-                    updateExistingStation(existing, station);
-                    stationMapper.update(existing);
-                    updated++;
-                }
-                
-            } catch (Exception e) {
-                logger.error("Failed to save station: {}", station.getName(), e);
-            }
+            merged.merge(StationDelta.identityKey(station), station, (existing, newData) -> {
+                updateExistingStation(existing, newData);
+                return existing;
+            });
         }
         
-        logger.info("데이터 저장 완료 - 신규: {} 개, 업데이트: {} 개", saved, updated);
-    }
-    
-    /**
-     * 기존 역 찾기 (이름 + 지역 기준)
-     */
-    private SubwayStation findExistingStation(SubwayStation station) {
+        StationBatchWriter.UpsertResult result;
         try {
-            List<SubwayStation> candidates = stationMapper.findByName(station.getName());
-            
-            for (SubwayStation candidate : candidates) {
-                if (Objects.equals(candidate.getRegion(), station.getRegion()) &&
-                    Objects.equals(candidate.getLineNumber(), station.getLineNumber())) {
-                    return candidate;
-                }
-            }
+            result = batchWriter.upsertByIdentity(new ArrayList<>(merged.values()));
+            logger.info("데이터 저장 완료 - {} 개 역, {} 행 반영, {} 개 실패",
+                merged.size(), result.getAffected(), result.getFailed().size());
         } catch (Exception e) {
-            logger.debug("Error finding existing station: {}", station.getName());
+            logger.error("Failed to save {} consolidated stations", merged.size(), e);
+            spatialIndex.invalidate();
+            nameIndex.invalidate();
+            return;
         }
         
-        return null;
+        spatialIndex.invalidate();
+        nameIndex.invalidate();
+        cacheInvalidator.evictAll();
+        snapshotStore.refreshFromDatabase();
+        
+        // 반영된 역은 유지하되 저장하지 못한 역이 있으면 동기화 실패로 보고
+        if (result.hasFailures()) {
+            throw new IllegalStateException("다층 데이터 동기화 부분 실패: " + result.getFailed().size() + "개 역 저장 실패");
+        }
     }
     
     /**
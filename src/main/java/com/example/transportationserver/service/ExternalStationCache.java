@@ -0,0 +1,73 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 외부 API(MOLIT) 실시간 검색 응답 캐시
+ * - 정규화된 검색어/노선번호를 키로 Caffeine AsyncCache에 결과 목록 보관 (정책은 CacheConfig의 cache.spec.external-*)
+ * - refreshAfterWrite가 지나면 기존 결과를 즉시 반환하고 백그라운드에서 다시 조회 (stale-while-revalidate)
+ * - 같은 키의 첫 조회가 진행 중이면 그 결과를 함께 기다림 (호출 1회)
+ * - 조회 실패는 캐시에 남지 않으며 호출자에게는 기존과 같이 빈 목록 반환
+ */
+@Service
+public class ExternalStationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalStationCache.class);
+
+    public static final String STATION_SEARCH = "externalStationSearch";
+    public static final String LINE_STATIONS = "externalLineStations";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MolitApiClient molitApiClient;
+
+    /**
+     * 역명 검색 (MOLIT getStationDetails)
+     */
+    public Mono<List<MolitStationInfo>> searchStations(String stationName) {
+        return get(STATION_SEARCH, normalize(stationName), molitApiClient::fetchStationDetails);
+    }
+
+    /**
+     * 노선별 역 목록 (MOLIT getStationsByLine)
+     */
+    public Mono<List<MolitStationInfo>> getStationsByLine(String lineNumber) {
+        return get(LINE_STATIONS, lineNumber != null ? lineNumber.trim() : "", molitApiClient::fetchStationsByLine);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<List<MolitStationInfo>> get(String cacheName, String key,
+                                             Function<String, Mono<List<MolitStationInfo>>> fetch) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache)) {
+            return fetch.apply(key);
+        }
+
+        AsyncCache<Object, Object> asyncCache = ((CaffeineCache) cache).getAsyncCache();
+        return Mono.fromFuture(() -> asyncCache.get(key, (k, executor) -> fetch.apply(key).<Object>map(value -> value).toFuture()), true)
+            .map(value -> (List<MolitStationInfo>) value)
+            .onErrorResume(error -> {
+                logger.error("외부 API 조회 실패 ({} / {}): {}", cacheName, key, error.getMessage());
+                return Mono.just(new ArrayList<>());
+            });
+    }
+
+    private String normalize(String stationName) {
+        return stationName != null ? stationName.trim().replaceAll("\\s+", "") : "";
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.GeocodeCacheEntry;
+import com.example.transportationserver.repository.GeocodeCacheMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 지오코딩 결과 영구 캐시 (geocode_cache)
+ * - 키: 제공자 + 정규화된 역명 + 지역 (공백 제거, 끝의 "역" 제거, 소문자)
+ * - 찾은 결과(positive)와 결과 없음(negative)을 각각 다른 TTL로 저장하여 재실행 시 Nominatim 호출을 건너뜀
+ * - 네트워크/한도 오류는 저장하지 않으므로 일시적 실패가 "결과 없음"으로 굳지 않음
+ * - 캐시 DB 오류는 캐시 미스로 처리 (조회는 항상 네트워크로 대체 가능)
+ */
+@Service
+public class GeocodeCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodeCacheService.class);
+
+    @Autowired
+    private GeocodeCacheMapper geocodeCacheMapper;
+
+    @Value("${geocode.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${geocode.cache.positive-ttl-days:90}")
+    private long positiveTtlDays;
+
+    @Value("${geocode.cache.negative-ttl-days:7}")
+    private long negativeTtlDays;
+
+    /**
+     * 캐시를 먼저 조회하고, 없으면 lookup을 실행해 결과를 저장
+     * @param decode 캐시 항목 → 결과
+     * @param encode 결과 → 캐시 항목 (found(...) 또는 notFound())
+     * @param lookup 실제 네트워크 조회 (오류는 그대로 전달해야 저장되지 않음)
+     */
+    public <T> Mono<T> cached(String provider, String stationName, String region,
+                              Function<GeocodeCacheEntry, T> decode,
+                              Function<T, GeocodeCacheEntry> encode,
+                              Mono<T> lookup) {
+        if (!enabled) {
+            return lookup;
+        }
+
+        String key = queryKey(provider, stationName, region);
+        return Mono.fromCallable(() -> geocodeCacheMapper.findValid(key))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(error -> {
+                logger.warn("지오코딩 캐시 조회 실패 ({}): {}", key, error.getMessage());
+                return Mono.empty();
+            })
+            .doOnNext(entry -> logger.debug("지오코딩 캐시 적중: {} ({})", key, entry.isFound() ? "found" : "not found"))
+            .map(decode)
+            .switchIfEmpty(Mono.defer(() -> lookup
+                .flatMap(result -> store(key, provider, encode.apply(result)).thenReturn(result))));
+    }
+
+    /**
+     * 찾은 결과 캐시 항목
+     */
+    public static GeocodeCacheEntry found(double latitude, double longitude, String displayName, Double confidence) {
+        return new GeocodeCacheEntry(null, null, true, latitude, longitude, displayName, confidence, null);
+    }
+
+    /**
+     * 결과 없음 캐시 항목
+     */
+    public static GeocodeCacheEntry notFound() {
+        return new GeocodeCacheEntry(null, null, false, null, null, null, null, null);
+    }
+
+    private Mono<Void> store(String key, String provider, GeocodeCacheEntry entry) {
+        return Mono.fromRunnable(() -> {
+                entry.setQueryKey(key);
+                entry.setProvider(provider);
+                entry.setCreatedAt(LocalDateTime.now());
+                entry.setExpiresAt(entry.isFound()
+                    ? LocalDateTime.now().plusDays(positiveTtlDays)
+                    : LocalDateTime.now().plusDays(negativeTtlDays));
+                geocodeCacheMapper.upsert(entry);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(error -> {
+                logger.warn("지오코딩 캐시 저장 실패 ({}): {}", key, error.getMessage());
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    /**
+     * 만료 항목 정리 (매일)
+     */
+    @Scheduled(cron = "${geocode.cache.cleanup-cron:0 30 3 * * *}")
+    public void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = geocodeCacheMapper.deleteExpired();
+            if (deleted > 0) {
+                logger.info("만료된 지오코딩 캐시 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("지오코딩 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    static String queryKey(String provider, String stationName, String region) {
+        return provider + ":" + normalize(stationName) + "|" + normalize(region);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = value.replaceAll("\\s+", "").toLowerCase();
+        if (normalized.length() > 1 && normalized.endsWith("역")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.transportationserver.service;
 
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.model.SyncJob;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.util.CoordinateValidator;
 import com.example.transportationserver.util.DataMapper;
-import com.example.transportationserver.util.ReactiveRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
@@ -15,8 +18,8 @@ import reactor.core.scheduler.Schedulers;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import com.example.transportationserver.dto.SubwayStationApiDto;
@@ -33,9 +36,6 @@ public class IntegratedSubwayDataService {
     @Autowired
     private KoreanSubwayApiClient seoulApiClient;
     
-    @Autowired
-    private MolitApiClient molitApiClient;
-    
     @Autowired
     private StationNameResolver nameResolver;
     
@@ -49,10 +49,35 @@ public class IntegratedSubwayDataService {
     private SubwayStationService stationService;
     
     @Autowired
-    private ReactiveRateLimiter rateLimiter;
+    private CacheMetricsService cacheMetricsService;
+    
+    @Autowired
+    private StationBulkLoader stationBulkLoader;
+    
+    @Autowired
+    private MolitBatchCollector molitBatchCollector;
+    
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
     
     @Autowired
-    private RateLimitService rateLimitService;
+    private StationSpatialIndex spatialIndex;
+    
+    @Autowired
+    private StationNameIndex nameIndex;
+    
+    @Autowired
+    private StationSnapshotStore snapshotStore;
+    
+    @Autowired
+    private StationCacheInvalidator cacheInvalidator;
+    
+    @Autowired
+    private SubwayStationMapper stationMapper;
+    
+    @Autowired
+    private SyncJobService syncJobService;
     
     @Value("${api.korea.subway.key}")
     private String apiKey;
@@ -60,13 +85,8 @@ public class IntegratedSubwayDataService {
     @Value("${api.molit.service.key}")
     private String molitServiceKey;
     
-    // 좌표 보완 작업 진행 상황 추적
-    private final AtomicInteger coordinateProgressTotal = new AtomicInteger(0);
-    private final AtomicInteger coordinateProgressCurrent = new AtomicInteger(0);
-    private final AtomicInteger coordinateProgressSuccess = new AtomicInteger(0);
-    private final AtomicInteger coordinateProgressFailed = new AtomicInteger(0);
-    private final AtomicReference<String> coordinateProgressStatus = new AtomicReference<>("IDLE");
-    private final AtomicReference<String> coordinateProgressCurrentStation = new AtomicReference<>("");
+    @Value("${sync.delta.max-delete-ratio:0.2}")
+    private double maxDeleteRatio;
     
     // TODO: Enhanced 데이터베이스 매퍼들 추가 필요
     // @Autowired
@@ -78,53 +98,64 @@ public class IntegratedSubwayDataService {
     
     /**
      * 전체 데이터 통합 동기화 프로세스
+     * 2~4단계(외부 API 수집)는 논블로킹으로 이어지고, DB 저장만 작업 스레드 풀에서 실행
      */
     @Async
-    @Transactional
     public CompletableFuture<SyncResult> performIntegratedSync() {
         logger.info("=== 통합 지하철 데이터 동기화 시작 ===");
         
+        SyncResult result = new SyncResult();
+        Set<String> seoulStationNames;
         try {
-            SyncResult result = new SyncResult();
-            
             // 1단계: 서울시 API에서 기본 역명 수집
             logger.info("1단계: 서울시 API 데이터 수집");
-            Set<String> seoulStationNames = collectSeoulStationNames();
+            seoulStationNames = collectSeoulStationNames();
             result.setSeoulStationsFound(seoulStationNames.size());
             logger.info("서울시 API: {} 개 역명 수집", seoulStationNames.size());
-            
-            // 2단계: 국토교통부 API로 상세정보 수집 (비동기)
-            logger.info("2단계: 국토교통부 API 상세정보 수집");
-            Map<String, List<MolitApiClient.MolitStationInfo>> molitData = collectMolitDataAsync(seoulStationNames).get();
-            result.setMolitStationsFound(molitData.values().stream().mapToInt(List::size).sum());
-            logger.info("국토교통부 API: {} 개 역 상세정보 수집", result.getMolitStationsFound());
-            
-            // 3단계: 데이터 정규화 및 그룹화
-            logger.info("3단계: 데이터 정규화 및 역 그룹화");
-            List<StationGroup> stationGroups = normalizeAndGroupStations(seoulStationNames, molitData);
-            result.setStationGroupsCreated(stationGroups.size());
-            logger.info("생성된 역 그룹: {} 개", stationGroups.size());
-            
-            // 4단계: 좌표 정보 통합 및 보완
-            logger.info("4단계: 좌표 정보 통합 및 보완");
-            int coordinatesEnriched = enrichCoordinatesAsync(stationGroups).get();
-            result.setCoordinatesEnriched(coordinatesEnriched);
-            logger.info("좌표 정보 보완: {} 개 그룹", coordinatesEnriched);
-            
-            // 5단계: 데이터베이스 저장
-            logger.info("5단계: 데이터베이스 저장");
-            saveToEnhancedDatabase(stationGroups);
-            result.setSuccess(true);
-            
-            logger.info("=== 통합 지하철 데이터 동기화 완료 ===");
-            logger.info("결과: {}", result);
-            
-            return CompletableFuture.completedFuture(result);
-            
         } catch (Exception e) {
             logger.error("통합 동기화 중 오류 발생", e);
             return CompletableFuture.completedFuture(SyncResult.failed(e.getMessage()));
         }
+        
+        // 2단계: 국토교통부 API로 상세정보 수집 (비동기)
+        logger.info("2단계: 국토교통부 API 상세정보 수집");
+        return collectMolitDataAsync(seoulStationNames)
+            .thenCompose(molitData -> {
+                result.setMolitStationsFound(molitData.values().stream().mapToInt(List::size).sum());
+                logger.info("국토교통부 API: {} 개 역 상세정보 수집", result.getMolitStationsFound());
+                
+                // 3단계: 데이터 정규화 및 그룹화
+                logger.info("3단계: 데이터 정규화 및 역 그룹화");
+                List<StationGroup> stationGroups = normalizeAndGroupStations(seoulStationNames, molitData);
+                result.setStationGroupsCreated(stationGroups.size());
+                logger.info("생성된 역 그룹: {} 개", stationGroups.size());
+                
+                // 4단계: 좌표 정보 통합 및 보완
+                logger.info("4단계: 좌표 정보 통합 및 보완");
+                return enrichCoordinatesAsync(stationGroups).thenApply(coordinatesEnriched -> {
+                    result.setCoordinatesEnriched(coordinatesEnriched);
+                    logger.info("좌표 정보 보완: {} 개 그룹", coordinatesEnriched);
+                    return stationGroups;
+                });
+            })
+            .thenApplyAsync(stationGroups -> {
+                // 5단계: 데이터베이스 저장
+                logger.info("5단계: 데이터베이스 저장");
+                StationDelta delta = saveToEnhancedDatabase(stationGroups);
+                result.setStationsInserted(delta.getInserted().size());
+                result.setStationsUpdated(delta.getUpdated().size());
+                result.setStationsUnchanged(delta.getUnchanged());
+                result.setStationsDeleted(delta.getDeleted().size());
+                result.setSuccess(true);
+                
+                logger.info("=== 통합 지하철 데이터 동기화 완료 ===");
+                logger.info("결과: {}", result);
+                return result;
+            }, taskExecutor)
+            .exceptionally(e -> {
+                logger.error("통합 동기화 중 오류 발생", e);
+                return SyncResult.failed(e.getMessage());
+            });
     }
     
     /**
@@ -170,10 +201,6 @@ public class IntegratedSubwayDataService {
                         logger.info("마지막 페이지 도달. 서울 API 수집 완료");
                         break;
                     }
-                    
-                    // API 호출 제한 준수
-                    rateLimitService.waitForSeoulApi();
-                    
                 } catch (Exception e) {
                     logger.warn("서울 API 페이지 {} 호출 실패: {}", page + 1, e.getMessage());
                     // 에러가 발생해도 다음 페이지 시도
@@ -194,55 +221,10 @@ public class IntegratedSubwayDataService {
     }
     
     /**
-     * 국토교통부 API에서 상세정보 수집 (비동기 개선)
+     * 국토교통부 API에서 상세정보 수집 (동시 요청 수 제한 + 재시도, 논블로킹)
      */
     private CompletableFuture<Map<String, List<MolitApiClient.MolitStationInfo>>> collectMolitDataAsync(Set<String> stationNames) {
-        logger.info("MOLIT API 데이터 수집 시작: {} 개 역", stationNames.size());
-        
-        AtomicInteger processedCount = new AtomicInteger(0);
-        AtomicInteger successCount = new AtomicInteger(0);
-        int totalCount = stationNames.size();
-        
-        return Flux.fromIterable(stationNames)
-            .flatMap(stationName -> 
-                rateLimiter.executeLimited(
-                    ReactiveRateLimiter.ApiType.MOLIT,
-                    molitApiClient.getStationDetails(stationName)
-                        .doOnSuccess(data -> {
-                            int processed = processedCount.incrementAndGet();
-                            if (data != null && !data.isEmpty()) {
-                                int success = successCount.incrementAndGet();
-                                logger.info("MOLIT 데이터 수집 성공: {} -> {} 개 결과 [{}/{}]", 
-                                          stationName, data.size(), processed, totalCount);
-                            } else {
-                                logger.debug("MOLIT 데이터 없음: {} [{}/{}]", stationName, processed, totalCount);
-                            }
-                            
-                            // 진행률 로깅 (10% 단위)
-                            if (processed % Math.max(1, totalCount / 10) == 0 || processed == totalCount) {
-                                double progress = (double) processed / totalCount * 100;
-                                logger.info("MOLIT API 진행률: {:.1f}% ({}/{}) - 성공: {}개", 
-                                          progress, processed, totalCount, successCount.get());
-                            }
-                        })
-                        .onErrorResume(error -> {
-                            int processed = processedCount.incrementAndGet();
-                            logger.warn("MOLIT API 호출 실패: {} - {} [{}/{}]", 
-                                      stationName, error.getMessage(), processed, totalCount);
-                            return Mono.just(Collections.emptyList());
-                        })
-                        .map(data -> Map.entry(stationName, data))
-                ), 3) // 동시 처리 수를 3개로 조정 (안정성)
-            .filter(entry -> !entry.getValue().isEmpty())
-            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
-            .doOnSuccess(result -> {
-                logger.info("MOLIT 데이터 수집 완료: 성공 {}개 / 전체 {}개 역 (성공률: {:.1f}%)", 
-                          result.size(), totalCount, (double) result.size() / totalCount * 100);
-            })
-            .doOnError(error -> {
-                logger.error("MOLIT 데이터 수집 중 전체적인 오류 발생", error);
-            })
-            .toFuture();
+        return molitBatchCollector.collect(stationNames).toFuture();
     }
     
     /**
@@ -308,15 +290,12 @@ public class IntegratedSubwayDataService {
                     group.setRepresentativeCoordinate(result.getLatitude(), result.getLongitude(), result.getConfidence());
                     return Mono.just(1);
                 } else {
-                    // OSM으로 좌표 보완 시도 (비동기)
-                    return rateLimiter.executeLimited(
-                        ReactiveRateLimiter.ApiType.OPENSTREETMAP,
-                        coordinateService.supplementCoordinate(
+                    // OSM으로 좌표 보완 시도 (비동기, 호출 간격은 OpenStreetMapService 내부 limiter가 보장)
+                    return coordinateService.supplementCoordinate(
                             group.getStandardizedStation().getOriginalName(),
                             group.getStandardizedStation().getRegion(),
                             group.getStandardizedStation().getCity()
                         )
-                    )
                     .map(osmResult -> {
                         if (osmResult != null && osmResult.isValid()) {
                             group.setRepresentativeCoordinate(
@@ -337,19 +316,85 @@ public class IntegratedSubwayDataService {
     }
     
     /**
-     * Enhanced 데이터베이스에 저장
+     * 역 그룹을 subway_stations에 증분 적재 (내용 해시 비교 → 변경분만 COPY → 스테이징 → 병합)
+     * 노선 정보가 있는 역(MOLIT)은 노선별로 한 행, 노선 정보가 없는 그룹(서울시 역명만)은 그룹당 한 행
      */
-    private void saveToEnhancedDatabase(List<StationGroup> stationGroups) {
-        // TODO: Enhanced 스키마에 맞춰 저장 로직 구현
-        logger.info("Enhanced 데이터베이스 저장 로직 구현 필요 (현재는 로깅만)");
-        
+    private StationDelta saveToEnhancedDatabase(List<StationGroup> stationGroups) {
+        List<SubwayStation> stations = new ArrayList<>();
         for (StationGroup group : stationGroups) {
-            logger.debug("저장할 그룹: {}, 역 수: {}, 좌표: {},{}", 
-                group.getStandardizedStation().getCanonicalName(),
-                group.getStations().size(),
-                group.getRepresentativeLatitude(),
-                group.getRepresentativeLongitude());
+            List<StationInfo> lineStations = group.getStations().stream()
+                .filter(info -> info.getLineNumber() != null)
+                .collect(Collectors.toList());
+            
+            if (lineStations.isEmpty()) {
+                stations.add(toSubwayStation(group, group.getStations().get(0)));
+            } else {
+                lineStations.forEach(info -> stations.add(toSubwayStation(group, info)));
+            }
+        }
+        
+        // 이 동기화가 마지막으로 쓴 행(sync_source = INTEGRATED_SYNC)만 삭제 대상
+        StationDelta delta = StationDelta.compute(stations, stationMapper.findAll(), StationDelta::identityKey,
+            existing -> SubwayStation.SYNC_SOURCE_INTEGRATED.equals(existing.getSyncSource()));
+        
+        long managedCount = delta.getUnchanged() + delta.getUpdated().size() + delta.getDeleted().size();
+        if (!delta.getDeleted().isEmpty() && delta.getDeleted().size() > managedCount * maxDeleteRatio) {
+            logger.warn("삭제 대상 {} 개가 허용 비율({})을 초과하여 삭제를 건너뜀 (수집 누락 가능성)",
+                delta.getDeleted().size(), maxDeleteRatio);
+            delta.skipDeletes();
+        }
+        
+        if (delta.isEmpty()) {
+            logger.info("데이터베이스 저장 생략: 변경 없음 ({} 개 역)", delta.getUnchanged());
+            return delta;
+        }
+        
+        List<Long> deleteIds = delta.getDeleted().stream().map(SubwayStation::getId).collect(Collectors.toList());
+        int merged = stationBulkLoader.load(delta.getChanged(), deleteIds);
+        evictChangedStations(delta);
+        snapshotStore.refreshFromDatabase();
+        logger.info("데이터베이스 저장 완료: {} 개 그룹, {} ({} 행 반영)", stationGroups.size(), delta, merged);
+        return delta;
+    }
+    
+    /**
+     * 변경된 역의 캐시 키만 제거하고 메모리 색인 재구성 예약
+     */
+    private void evictChangedStations(StationDelta delta) {
+        delta.getInserted().forEach(cacheInvalidator::evictStation);
+        delta.getUpdated().forEach(cacheInvalidator::evictStation);
+        delta.getPrevious().forEach(cacheInvalidator::evictStation);
+        delta.getDeleted().forEach(cacheInvalidator::evictStation);
+        spatialIndex.invalidate();
+        nameIndex.invalidate();
+    }
+    
+    private SubwayStation toSubwayStation(StationGroup group, StationInfo info) {
+        StationNameResolver.StandardizedStation standardized = group.getStandardizedStation();
+        SubwayStation station = new SubwayStation();
+        station.setName(standardized.getOriginalName());
+        station.setLineNumber(info.getLineNumber());
+        station.setStationCode(info.getStationCode());
+        station.setRegion(standardized.getRegion());
+        station.setCity(standardized.getCity());
+        station.setFullName(standardized.getDisplayName());
+        station.setAddress(info.getAddress());
+        station.setDataSource(info.getDataSource());
+        station.setSyncSource(SubwayStation.SYNC_SOURCE_INTEGRATED);
+        if ("MOLIT_API".equals(info.getDataSource())) {
+            station.setSubwayStationId(info.getStationId());
+        }
+        
+        // 개별 역 좌표가 없으면 그룹 대표 좌표 사용
+        if (!CoordinateValidator.isCoordinateEmpty(info.getLatitude(), info.getLongitude())) {
+            station.setLatitude(info.getLatitude());
+            station.setLongitude(info.getLongitude());
+        } else {
+            station.setLatitude(group.getRepresentativeLatitude());
+            station.setLongitude(group.getRepresentativeLongitude());
         }
+        station.setHasCoordinates(station.getLatitude() != null && station.getLongitude() != null);
+        return station;
     }
     
     // Helper 메서드들
@@ -458,6 +503,10 @@ public class IntegratedSubwayDataService {
         private int molitStationsFound;
         private int stationGroupsCreated;
         private int coordinatesEnriched;
+        private int stationsInserted;
+        private int stationsUpdated;
+        private int stationsUnchanged;
+        private int stationsDeleted;
         
         public static SyncResult failed(String errorMessage) {
             SyncResult result = new SyncResult();
@@ -479,166 +528,171 @@ public class IntegratedSubwayDataService {
         public void setStationGroupsCreated(int stationGroupsCreated) { this.stationGroupsCreated = stationGroupsCreated; }
         public int getCoordinatesEnriched() { return coordinatesEnriched; }
         public void setCoordinatesEnriched(int coordinatesEnriched) { this.coordinatesEnriched = coordinatesEnriched; }
+        public int getStationsInserted() { return stationsInserted; }
+        public void setStationsInserted(int stationsInserted) { this.stationsInserted = stationsInserted; }
+        public int getStationsUpdated() { return stationsUpdated; }
+        public void setStationsUpdated(int stationsUpdated) { this.stationsUpdated = stationsUpdated; }
+        public int getStationsUnchanged() { return stationsUnchanged; }
+        public void setStationsUnchanged(int stationsUnchanged) { this.stationsUnchanged = stationsUnchanged; }
+        public int getStationsDeleted() { return stationsDeleted; }
+        public void setStationsDeleted(int stationsDeleted) { this.stationsDeleted = stationsDeleted; }
         
         @Override
         public String toString() {
-            return String.format("SyncResult{success=%s, seoulStations=%d, molitStations=%d, groups=%d, coordinates=%d}", 
-                success, seoulStationsFound, molitStationsFound, stationGroupsCreated, coordinatesEnriched);
+            return String.format("SyncResult{success=%s, seoulStations=%d, molitStations=%d, groups=%d, coordinates=%d, "
+                + "inserted=%d, updated=%d, unchanged=%d, deleted=%d}", 
+                success, seoulStationsFound, molitStationsFound, stationGroupsCreated, coordinatesEnriched,
+                stationsInserted, stationsUpdated, stationsUnchanged, stationsDeleted);
         }
     }
     
-    /**
-     * 단순화된 전체 데이터 동기화 (컨트롤러용)
-     */
-    @Async
-    public void synchronizeAllData() {
-        logger.info("전체 지하철 데이터 동기화 시작");
-        performIntegratedSync().whenComplete((result, throwable) -> {
-            if (throwable != null) {
-                logger.error("데이터 동기화 실패", throwable);
-            } else {
-                logger.info("데이터 동기화 완료: {}", result);
-            }
-        });
-    }
-    
     /**
      * 좌표 보완 전용 작업 (OpenStreetMap 전용, 1초 간격 엄격 준수)
+     * 역 ID 순으로 처리하며 역마다 sync_jobs 체크포인트를 기록하므로, 중단되면 다음 실행(또는 재시작) 시 이어서 처리
+     * 역별 요청을 순서대로 이어 붙이고(concatMap) 응답이 오면 좌표 반영과 체크포인트 기록을 boundedElastic에서 실행,
+     * 요청 간격 대기 중에는 스레드를 점유하지 않음 (인스턴스 간 중복 방지는 SyncCoordinator가 담당)
      */
-    @Async
-    public void supplementMissingCoordinates() {
+    public CompletableFuture<Void> supplementMissingCoordinates() {
         logger.info("=== OpenStreetMap 좌표 보완 작업 시작 ===");
         
+        SyncJob started = null;
+        List<SubwayStation> stationsWithoutCoords;
         try {
-            // 진행 상황 초기화
-            coordinateProgressStatus.set("RUNNING");
-            coordinateProgressCurrent.set(0);
-            coordinateProgressSuccess.set(0);
-            coordinateProgressFailed.set(0);
-            coordinateProgressCurrentStation.set("");
-            
-            // 좌표가 없는 역들 조회
-            List<com.example.transportationserver.model.SubwayStation> stationsWithoutCoords = 
-                stationService.getStationsWithoutCoordinates();
-            
-            int totalStations = stationsWithoutCoords.size();
-            coordinateProgressTotal.set(totalStations);
-            
-            logger.info("좌표가 없는 역 수: {}개", totalStations);
-            
-            if (stationsWithoutCoords.isEmpty()) {
-                logger.info("모든 역에 좌표가 이미 존재합니다.");
-                coordinateProgressStatus.set("COMPLETED");
-                return;
+            started = syncJobService.startOrResume(SyncJobService.JOB_COORDINATE_SUPPLEMENT,
+                stationService.getCoordinateStatistics().getMissingCoordinates());
+            if (started == null) {
+                return CompletableFuture.completedFuture(null);
             }
             
-            int successCount = 0;
-            int skipCount = 0;
-            
-            logger.info("OpenStreetMap API 정책 준수: 1초당 1회 요청, 예상 소요 시간: {}분", 
-                Math.ceil(totalStations / 60.0));
-            
-            for (int i = 0; i < stationsWithoutCoords.size(); i++) {
-                com.example.transportationserver.model.SubwayStation station = stationsWithoutCoords.get(i);
-                
-                try {
-                    // 진행 상황 업데이트
-                    coordinateProgressCurrent.set(i + 1);
-                    coordinateProgressCurrentStation.set(station.getName() + " (" + station.getLineNumber() + ")");
-                    
-                    logger.info("[{}/{}] 좌표 보완 시도: {} ({}호선)", 
-                        i + 1, totalStations, station.getName(), station.getLineNumber());
-                    
-                    long startTime = System.currentTimeMillis();
-                    
-                    // OpenStreetMap에서 좌표 검색 (내부에서 1초 간격 자동 관리)
-                    Optional<OpenStreetMapService.Coordinate> coordinate = 
-                        openStreetMapService.searchStationCoordinates(
-                            station.getName(), 
-                            station.getRegion() != null ? station.getRegion() : "서울특별시"
-                        ).block();
+            // 체크포인트 이후의 좌표가 없는 역들 조회
+            stationsWithoutCoords = stationService.getStationsWithoutCoordinatesAfter(started.getLastStationId());
+        } catch (Exception e) {
+            if (started != null) {
+                syncJobService.fail(started, e.getMessage());
+            }
+            logger.error("좌표 보완 작업 중 치명적 오류 발생", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        SyncJob job = started;
+        
+        int totalStations = stationsWithoutCoords.size();
+        logger.info("좌표가 없는 역 수: {}개 (작업 #{}, 체크포인트 역 ID {})", 
+            totalStations, job.getId(), job.getLastStationId());
+        
+        if (stationsWithoutCoords.isEmpty()) {
+            logger.info("모든 역에 좌표가 이미 존재합니다.");
+            syncJobService.complete(job);
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        logger.info("OpenStreetMap API 정책 준수: 1초당 1회 요청, 예상 소요 시간: {}분", 
+            Math.ceil(totalStations / 60.0));
+        
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger skipCount = new AtomicInteger();
+        
+        return Flux.fromIterable(stationsWithoutCoords)
+            .concatMap(station -> openStreetMapService.searchStationCoordinates(
+                    station.getName(), 
+                    station.getRegion() != null ? station.getRegion() : "서울특별시"
+                )
+                .defaultIfEmpty(Optional.empty())
+                .publishOn(Schedulers.boundedElastic())
+                .map(coordinate -> applySupplementedCoordinate(station, coordinate))
+                .onErrorResume(e -> {
+                    logger.error("❌ 좌표 보완 실패: {} - {}", station.getName(), e.getMessage());
+                    return Mono.just(new SupplementOutcome(SyncJobService.OUTCOME_ERROR, e.getMessage()));
+                })
+                .doOnNext(outcome -> {
+                    // 체크포인트 기록 (기록 실패는 작업 전체 실패로 처리하여 다음 실행 때 이 역부터 재개)
+                    syncJobService.recordOutcome(job, station, outcome.outcome, outcome.message);
                     
-                    if (coordinate.isPresent()) {
-                        OpenStreetMapService.Coordinate coord = coordinate.get();
-                        
-                        // 데이터베이스에 좌표 업데이트
-                        boolean updated = stationService.updateStationCoordinates(
-                            station.getId(), coord.getLatitude(), coord.getLongitude());
-                        
-                        if (updated) {
-                            successCount++;
-                            coordinateProgressSuccess.incrementAndGet();
-                            logger.info("✅ 좌표 보완 성공: {} -> ({:.6f}, {:.6f})", 
-                                station.getName(), coord.getLatitude(), coord.getLongitude());
-                        } else {
-                            skipCount++;
-                            coordinateProgressFailed.incrementAndGet();
-                            logger.warn("❌ 좌표 업데이트 실패: {}", station.getName());
-                        }
+                    if (SyncJobService.OUTCOME_SUCCESS.equals(outcome.outcome)) {
+                        successCount.incrementAndGet();
                     } else {
-                        skipCount++;
-                        coordinateProgressFailed.incrementAndGet();
-                        logger.warn("⚠️ 좌표를 찾을 수 없음: {}", station.getName());
+                        skipCount.incrementAndGet();
                     }
                     
-                    long elapsedTime = System.currentTimeMillis() - startTime;
-                    logger.debug("요청 처리 시간: {}ms", elapsedTime);
-                    
                     // 진행률 표시 (10개마다)
-                    if ((i + 1) % 10 == 0 || i == totalStations - 1) {
-                        double progress = ((double)(i + 1) / totalStations) * 100;
+                    int current = processed.incrementAndGet();
+                    if (current % 10 == 0 || current == totalStations) {
+                        double progress = ((double) current / totalStations) * 100;
                         logger.info("📊 진행률: {:.1f}% ({}/{}) - 성공: {}, 실패: {}", 
-                            progress, i + 1, totalStations, successCount, skipCount);
+                            progress, current, totalStations, successCount.get(), skipCount.get());
                     }
-                    
-                } catch (Exception e) {
-                    skipCount++;
-                    coordinateProgressFailed.incrementAndGet();
-                    logger.error("❌ 좌표 보완 실패: {} - {}", station.getName(), e.getMessage());
-                    
-                    // 에러 발생 시에도 API 정책 준수
-                    rateLimitService.waitForOpenStreetMap();
+                }))
+            .then()
+            .toFuture()
+            .whenComplete((ignored, error) -> {
+                if (error != null) {
+                    syncJobService.fail(job, error.getMessage());
+                    logger.error("좌표 보완 작업 중 치명적 오류 발생", error);
+                    return;
                 }
-            }
-            
-            // 작업 완료 상태 업데이트
-            coordinateProgressStatus.set("COMPLETED");
-            coordinateProgressCurrentStation.set("");
-            
-            logger.info("=== 좌표 보완 작업 완료 ===");
-            logger.info("🎯 처리 결과: 전체 {}개, 성공 {}개, 실패/스킵 {}개", 
-                totalStations, successCount, skipCount);
-            logger.info("📈 성공률: {:.1f}%", 
-                totalStations > 0 ? (double)successCount / totalStations * 100 : 0);
-            
-            // 최종 통계 출력
-            SubwayStationService.CoordinateStatistics finalStats = stationService.getCoordinateStatistics();
-            logger.info("📊 최종 좌표 완성률: {:.1f}% ({}/{})", 
-                finalStats.getCompletionRate(), 
-                finalStats.getHasCoordinates(), 
-                finalStats.getTotal());
                 
-        } catch (Exception e) {
-            coordinateProgressStatus.set("ERROR");
-            logger.error("좌표 보완 작업 중 치명적 오류 발생", e);
+                // 작업 완료 상태 업데이트
+                syncJobService.complete(job);
+                
+                logger.info("=== 좌표 보완 작업 완료 ===");
+                logger.info("🎯 처리 결과: 전체 {}개, 성공 {}개, 실패/스킵 {}개", 
+                    totalStations, successCount.get(), skipCount.get());
+                logger.info("📈 성공률: {:.1f}%", 
+                    (double) successCount.get() / totalStations * 100);
+                
+                // 최종 통계 출력
+                SubwayStationService.CoordinateStatistics finalStats = stationService.getCoordinateStatistics();
+                logger.info("📊 최종 좌표 완성률: {:.1f}% ({}/{})", 
+                    finalStats.getCompletionRate(), 
+                    finalStats.getHasCoordinates(), 
+                    finalStats.getTotal());
+            });
+    }
+    
+    /**
+     * 검색한 좌표를 DB에 반영
+     */
+    private SupplementOutcome applySupplementedCoordinate(SubwayStation station,
+                                                 Optional<OpenStreetMapService.Coordinate> coordinate) {
+        if (coordinate.isEmpty()) {
+            logger.warn("⚠️ 좌표를 찾을 수 없음: {}", station.getName());
+            return new SupplementOutcome(SyncJobService.OUTCOME_NOT_FOUND, null);
         }
+        
+        OpenStreetMapService.Coordinate coord = coordinate.get();
+        boolean updated = stationService.updateStationCoordinates(
+            station, coord.getLatitude(), coord.getLongitude());
+        if (!updated) {
+            logger.warn("❌ 좌표 업데이트 실패: {}", station.getName());
+            return new SupplementOutcome(SyncJobService.OUTCOME_UPDATE_FAILED, null);
+        }
+        
+        logger.info("✅ 좌표 보완 성공: {} -> ({:.6f}, {:.6f})", 
+            station.getName(), coord.getLatitude(), coord.getLongitude());
+        return new SupplementOutcome(SyncJobService.OUTCOME_SUCCESS, null);
     }
     
     /**
-     * 좌표 보완 진행 상황 조회
+     * 역별 좌표 보완 결과 (SyncJobService.OUTCOME_*)
      */
-    public Map<String, Object> getCoordinateSupplementProgress() {
-        Map<String, Object> progress = new HashMap<>();
+    private static final class SupplementOutcome {
+        private final String outcome;
+        private final String message;
         
-        progress.put("status", coordinateProgressStatus.get());
-        progress.put("total", coordinateProgressTotal.get());
-        progress.put("current", coordinateProgressCurrent.get());
-        progress.put("success", coordinateProgressSuccess.get());
-        progress.put("failed", coordinateProgressFailed.get());
-        progress.put("currentStation", coordinateProgressCurrentStation.get());
+        private SupplementOutcome(String outcome, String message) {
+            this.outcome = outcome;
+            this.message = message;
+        }
+    }
+    
+    /**
+     * 좌표 보완 진행 상황 조회 (sync_jobs 기준, 재시작 후에도 유지)
+     */
+    public Map<String, Object> getCoordinateSupplementProgress() {
+        Map<String, Object> progress = syncJobService.getProgress(SyncJobService.JOB_COORDINATE_SUPPLEMENT);
         
-        int total = coordinateProgressTotal.get();
-        int current = coordinateProgressCurrent.get();
+        int total = ((Number) progress.get("total")).intValue();
+        int current = ((Number) progress.get("current")).intValue();
         
         if (total > 0) {
             double progressPercent = ((double) current / total) * 100;
@@ -646,7 +700,7 @@ public class IntegratedSubwayDataService {
             
             // 예상 남은 시간 계산 (1초당 1개 처리)
             int remaining = total - current;
-            if (remaining > 0 && !"IDLE".equals(coordinateProgressStatus.get())) {
+            if (remaining > 0 && !"IDLE".equals(progress.get("status"))) {
                 progress.put("estimatedRemainingMinutes", Math.ceil(remaining / 60.0));
             }
         } else {
@@ -690,6 +744,9 @@ public class IntegratedSubwayDataService {
         // 데이터베이스 연결 상태 (향후 추가)
         status.put("databaseStatus", "TODO: 데이터베이스 상태 확인 로직 추가");
         
+        // 캐시 통계 (적중률, 크기, 인기 키)
+        status.put("caches", cacheMetricsService.getCacheStatistics());
+        
         return status;
     }
     
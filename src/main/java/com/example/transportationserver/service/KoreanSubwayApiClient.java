@@ -2,6 +2,7 @@ package com.example.transportationserver.service;
 
 import com.example.transportationserver.dto.*;
 import com.example.transportationserver.dto.SeoulApiResponse;
+import com.example.transportationserver.util.ReactiveRateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,7 @@ public class KoreanSubwayApiClient {
     
     private static final Logger logger = LoggerFactory.getLogger(KoreanSubwayApiClient.class);
     private final WebClient webClient;
+    private final ReactiveRateLimiter rateLimiter;
     
     @Value("${api.korea.subway.base.url}")
     private String baseUrl;
@@ -28,8 +30,10 @@ public class KoreanSubwayApiClient {
     private String apiKey;
     
     @Autowired
-    public KoreanSubwayApiClient(@Qualifier("seoulApiWebClient") WebClient webClient) {
+    public KoreanSubwayApiClient(@Qualifier("seoulApiWebClient") WebClient webClient,
+                                 ReactiveRateLimiter rateLimiter) {
         this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
         logger.info("한국 지하철 API 클라이언트 초기화 완료");
     }
     
@@ -42,10 +46,10 @@ public class KoreanSubwayApiClient {
         
         logger.info("서울 지하철 API 요청 URL: {}", url);
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.SEOUL, webClient.get()
                 .uri(url)
                 .retrieve()
-                .bodyToMono(SeoulApiResponse.class)
+                .bodyToMono(SeoulApiResponse.class))
                 .<List<SubwayStationApiDto>>map(response -> {
                     logger.debug("서울 지하철 API 응답: {}", response);
                     
@@ -76,10 +80,10 @@ public class KoreanSubwayApiClient {
         
         logger.info("서울 지하철 API 전체 목록 요청 ({}~{}): {}", startIndex, endIndex, url);
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.SEOUL, webClient.get()
                 .uri(url)
                 .retrieve()
-                .bodyToMono(SeoulApiResponse.class)
+                .bodyToMono(SeoulApiResponse.class))
                 .<List<SubwayStationApiDto>>map(response -> {
                     if (response.getSearchInfoBySubwayNameService() != null && 
                         response.getSearchInfoBySubwayNameService().getRow() != null) {
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.example.transportationserver.util.DataMapper;
+import com.example.transportationserver.util.ReactiveRateLimiter;
+import com.example.transportationserver.util.RequestCoalescer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,19 +25,43 @@ public class MolitApiClient {
     
     private static final Logger logger = LoggerFactory.getLogger(MolitApiClient.class);
     private final WebClient webClient;
+    private final ReactiveRateLimiter rateLimiter;
     
     @Value("${api.molit.service.key}")
     private String serviceKey;
     
+    // 역명별 상세정보 조회 합치기 (RequestCoalescingConfig)
+    private final RequestCoalescer<String, List<MolitStationInfo>> stationDetailsRequests;
+    
     @Autowired
-    public MolitApiClient(@Qualifier("molitApiWebClient") WebClient webClient) {
+    public MolitApiClient(@Qualifier("molitApiWebClient") WebClient webClient,
+                          ReactiveRateLimiter rateLimiter,
+                          @Qualifier("molitStationDetailsRequests")
+                          RequestCoalescer<String, List<MolitStationInfo>> stationDetailsRequests) {
         this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
+        this.stationDetailsRequests = stationDetailsRequests;
     }
     
     /**
-     * 지하철역 상세정보 조회
+     * 지하철역 상세정보 조회 (오류 시 빈 목록)
      */
     public Mono<List<MolitStationInfo>> getStationDetails(String stationName) {
+        return fetchStationDetails(stationName)
+                .doOnError(error -> logger.error("Error fetching MOLIT data for {}: {}", stationName, error.getMessage()))
+                .onErrorReturn(new ArrayList<MolitStationInfo>());
+    }
+    
+    /**
+     * 지하철역 상세정보 조회 (HTTP/네트워크 오류를 그대로 전달, 재시도는 호출 측에서 처리)
+     * 같은 역명의 동시 요청은 HTTP 호출 하나를 공유하고 결과는 잠시 재사용 (호출 한도 절약)
+     */
+    public Mono<List<MolitStationInfo>> fetchStationDetails(String stationName) {
+        String key = stationName != null ? stationName.trim() : "";
+        return stationDetailsRequests.execute(key, () -> requestStationDetails(stationName));
+    }
+    
+    private Mono<List<MolitStationInfo>> requestStationDetails(String stationName) {
         if (serviceKey == null || serviceKey.isEmpty()) {
             logger.warn("MOLIT service key not configured");
             return Mono.just(new ArrayList<MolitStationInfo>());
@@ -46,7 +72,7 @@ public class MolitApiClient {
             serviceKey.substring(0, Math.min(10, serviceKey.length())), 
             serviceKey.length() > 10 ? serviceKey.substring(serviceKey.length() - 10) : "");
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.MOLIT, webClient.get()
                 .uri(uriBuilder -> {
                     try {
                         // 완전한 URL을 직접 구성하여 이중 인코딩 방지
@@ -68,7 +94,7 @@ public class MolitApiClient {
                     }
                 })
                     .retrieve()
-                    .bodyToMono(MolitApiResponse.class)
+                    .bodyToMono(MolitApiResponse.class))
                     .map(response -> {
                         logger.info("Parsed MOLIT API response - header: {}, body: {}", 
                             response != null && response.response != null ? response.response.header : "null",
@@ -81,33 +107,46 @@ public class MolitApiClient {
                         }
                         return new ArrayList<MolitStationInfo>();
                     })
-                    .onErrorResume(error -> {
-                        logger.error("Error parsing MOLIT response: {}", error.getMessage());
-                        return Mono.just(new ArrayList<MolitStationInfo>());
-                    })
+                    .defaultIfEmpty(new ArrayList<MolitStationInfo>())
                     .doOnSuccess(result -> {
                         if (result.isEmpty()) {
                             logger.debug("No MOLIT data found for station: {}", stationName);
                         } else {
                             logger.info("Found {} MOLIT records for station: {}", result.size(), stationName);
                         }
-                    })
-                    .doOnError(error -> logger.error("Error fetching MOLIT data for {}: {}", stationName, error.getMessage()))
-                    .onErrorReturn(new ArrayList<MolitStationInfo>());
+                    });
     }
     
     /**
-     * 전체 지하철역 조회 (페이징) - String 응답을 직접 처리하여 XML/JSON 이슈 해결
+     * 전체 지하철역 조회 (페이징, 오류 시 빈 목록)
      */
     public Mono<List<MolitStationInfo>> getAllStations(int numOfRows, int pageNo) {
+        return fetchCataloguePage(numOfRows, pageNo)
+                .map(CataloguePage::getItems)
+                .doOnSuccess(result -> {
+                    if (result.isEmpty()) {
+                        logger.debug("No MOLIT data found for page: {}", pageNo);
+                    } else {
+                        logger.info("Found {} MOLIT records for page: {}", result.size(), pageNo);
+                    }
+                })
+                .doOnError(error -> logger.error("Error fetching MOLIT data for page {}: {}", pageNo, error.getMessage()))
+                .onErrorReturn(new ArrayList<MolitStationInfo>());
+    }
+    
+    /**
+     * 전국 역 목록 한 페이지 조회 (항목 + 전체 건수)
+     * String 응답을 직접 처리하여 XML/JSON 이슈 해결, HTTP/파싱 오류는 그대로 전달
+     */
+    public Mono<CataloguePage> fetchCataloguePage(int numOfRows, int pageNo) {
         if (serviceKey == null || serviceKey.isEmpty()) {
             logger.warn("MOLIT service key not configured");
-            return Mono.just(new ArrayList<MolitStationInfo>());
+            return Mono.just(new CataloguePage(new ArrayList<>(), 0));
         }
         
         logger.info("Calling MOLIT API for all stations: numOfRows={}, pageNo={}", numOfRows, pageNo);
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.MOLIT, webClient.get()
                 .uri(uriBuilder -> {
                     try {
                         // 완전한 URL을 직접 구성하여 이중 인코딩 방지
@@ -127,14 +166,14 @@ public class MolitApiClient {
                     }
                 })
                 .retrieve()
-                .bodyToMono(String.class)  // String으로 먼저 받아서 내용 확인
+                .bodyToMono(String.class))  // String으로 먼저 받아서 내용 확인
                 .map(responseBody -> {
                     logger.debug("Raw MOLIT API response: {}", responseBody.substring(0, Math.min(200, responseBody.length())));
                     
-                    // XML 응답인지 확인
+                    // XML 응답인지 확인 (서비스키 오류 등은 XML로 반환됨)
                     if (responseBody.trim().startsWith("<")) {
-                        logger.error("MOLIT API returned XML instead of JSON: {}", responseBody.substring(0, Math.min(500, responseBody.length())));
-                        return new ArrayList<MolitStationInfo>();
+                        throw new IllegalStateException("MOLIT API returned XML instead of JSON: "
+                            + responseBody.substring(0, Math.min(500, responseBody.length())));
                     }
                     
                     try {
@@ -149,39 +188,34 @@ public class MolitApiClient {
                         if (response != null && response.response != null && response.response.body != null) {
                             List<MolitStationInfo> items = response.response.body.getItemsList();
                             logger.info("Extracted {} items from response", items.size());
-                            return items;
+                            return new CataloguePage(items, response.response.body.totalCount);
                         }
-                        return new ArrayList<MolitStationInfo>();
+                        return new CataloguePage(new ArrayList<>(), 0);
                         
                     } catch (Exception e) {
-                        logger.error("Error parsing JSON response: {}", e.getMessage());
-                        return new ArrayList<MolitStationInfo>();
+                        throw new IllegalStateException("Error parsing MOLIT JSON response: " + e.getMessage(), e);
                     }
-                })
-                .onErrorResume(error -> {
-                    logger.error("Error fetching MOLIT response: {}", error.getMessage());
-                    return Mono.just(new ArrayList<MolitStationInfo>());
-                })
-                .doOnSuccess(result -> {
-                    if (result.isEmpty()) {
-                        logger.debug("No MOLIT data found for page: {}", pageNo);
-                    } else {
-                        logger.info("Found {} MOLIT records for page: {}", result.size(), pageNo);
-                    }
-                })
-                .doOnError(error -> logger.error("Error fetching MOLIT data for page {}: {}", pageNo, error.getMessage()))
-                .onErrorReturn(new ArrayList<MolitStationInfo>());
+                });
     }
 
     /**
-     * 노선별 지하철역 조회
+     * 노선별 지하철역 조회 (오류 시 빈 목록)
      */
     public Mono<List<MolitStationInfo>> getStationsByLine(String lineNumber) {
+        return fetchStationsByLine(lineNumber)
+                .doOnError(error -> logger.error("Error fetching line {} data: {}", lineNumber, error.getMessage()))
+                .onErrorReturn(new ArrayList<MolitStationInfo>());
+    }
+    
+    /**
+     * 노선별 지하철역 조회 (HTTP/네트워크 오류를 그대로 전달)
+     */
+    public Mono<List<MolitStationInfo>> fetchStationsByLine(String lineNumber) {
         if (serviceKey == null || serviceKey.isEmpty()) {
             return Mono.just(new ArrayList<MolitStationInfo>());
         }
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.MOLIT, webClient.get()
                 .uri(uriBuilder -> {
                     try {
                         // 완전한 URL을 직접 구성하여 이중 인코딩 방지
@@ -203,15 +237,13 @@ public class MolitApiClient {
                     }
                 })
                 .retrieve()
-                .bodyToMono(MolitApiResponse.class)
+                .bodyToMono(MolitApiResponse.class))
                 .map(response -> {
                     if (response != null && response.response != null && response.response.body != null) {
                         return response.response.body.getItemsList();
                     }
                     return new ArrayList<MolitStationInfo>();
-                })
-                .doOnError(error -> logger.error("Error fetching line {} data: {}", lineNumber, error.getMessage()))
-                .onErrorReturn(new ArrayList<MolitStationInfo>());
+                });
     }
     
     /**
@@ -221,6 +253,22 @@ public class MolitApiClient {
         return DataMapper.convertMolitLineNumber(lineNumber);
     }
     
+    /**
+     * 전국 역 목록 페이지 (항목 + 전체 건수)
+     */
+    public static class CataloguePage {
+        private final List<MolitStationInfo> items;
+        private final int totalCount;
+        
+        public CataloguePage(List<MolitStationInfo> items, int totalCount) {
+            this.items = items;
+            this.totalCount = totalCount;
+        }
+        
+        public List<MolitStationInfo> getItems() { return items; }
+        public int getTotalCount() { return totalCount; }
+    }
+    
     /**
      * MOLIT API 응답 구조
      */
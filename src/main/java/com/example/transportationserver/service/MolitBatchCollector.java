@@ -0,0 +1,205 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 국토교통부 API 역 상세정보 병렬 수집
+ * - 기본은 전국 역 목록 스냅샷 모드: totalCount로 페이지 수를 구해 모든 페이지를 동시에 받아
+ *   역명 → 역 정보 멀티맵(MolitCatalogue)을 만들고 역명 조회는 메모리에서 처리 (API 호출 수 = 페이지 수)
+ * - 스냅샷을 받지 못했거나 일부 페이지가 누락되면 역명별 조회로 대체
+ * - 동시 요청 수 제한(concurrency) 안에서 MOLIT 호출 간격(MolitApiClient 내부의 ReactiveRateLimiter)만큼 요청을 계속 흘려보냄
+ * - 일시적 오류(429, 5xx, 연결 오류, 타임아웃)는 지터가 적용된 지수 백오프로 재시도 (재시도도 호출 간격을 다시 예약)
+ * - 대기는 모두 논블로킹이므로 수집 중 작업 스레드를 점유하지 않음
+ */
+@Component
+public class MolitBatchCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(MolitBatchCollector.class);
+
+    @Autowired
+    private MolitApiClient molitApiClient;
+
+    @Autowired
+    private StationNameResolver nameResolver;
+
+    @Value("${molit.catalogue.enabled:true}")
+    private boolean catalogueEnabled;
+
+    @Value("${molit.catalogue.page-size:500}")
+    private int cataloguePageSize;
+
+    @Value("${molit.catalogue.max-age-minutes:60}")
+    private long catalogueMaxAgeMinutes;
+
+    @Value("${molit.collect.concurrency:8}")
+    private int concurrency;
+
+    @Value("${molit.collect.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${molit.collect.min-backoff-ms:500}")
+    private long minBackoffMs;
+
+    @Value("${molit.collect.request-timeout-seconds:15}")
+    private long requestTimeoutSeconds;
+
+    // 스냅샷은 max-age 동안 공유하고, 실패는 캐시하지 않음 (동시 구독은 한 번의 수집을 공유)
+    private Mono<MolitCatalogue> catalogue;
+
+    @PostConstruct
+    void initCatalogue() {
+        catalogue = Mono.defer(this::fetchCatalogue)
+            .cache(value -> Duration.ofMinutes(catalogueMaxAgeMinutes), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 역명별 MOLIT 상세정보 수집 (결과가 없는 역명은 제외)
+     * 스냅샷 모드에서는 전국 역 목록에서 조회하고, 스냅샷이 불완전하면 역명별 API 조회로 대체
+     */
+    public Mono<Map<String, List<MolitStationInfo>>> collect(Collection<String> stationNames) {
+        if (!catalogueEnabled || stationNames.isEmpty()) {
+            return collectByName(stationNames);
+        }
+
+        return catalogue()
+            .flatMap(snapshot -> snapshot.isComplete()
+                ? Mono.just(resolve(snapshot, stationNames))
+                : Mono.error(new IllegalStateException(String.format("스냅샷 불완전 (%d/%d)",
+                    snapshot.size(), snapshot.getTotalCount()))))
+            .onErrorResume(error -> {
+                logger.warn("MOLIT 전국 역 목록 사용 불가, 역명별 조회로 대체: {}", error.getMessage());
+                return collectByName(stationNames);
+            });
+    }
+
+    /**
+     * 전국 역 목록 스냅샷 (max-age 동안 재사용)
+     */
+    Mono<MolitCatalogue> catalogue() {
+        return catalogue;
+    }
+
+    private Map<String, List<MolitStationInfo>> resolve(MolitCatalogue snapshot, Collection<String> stationNames) {
+        Map<String, List<MolitStationInfo>> result = new HashMap<>();
+        for (String stationName : stationNames) {
+            List<MolitStationInfo> matches = snapshot.find(stationName);
+            if (!matches.isEmpty()) {
+                result.put(stationName, matches);
+            }
+        }
+        logger.info("MOLIT 전국 역 목록에서 조회: {} / {} 개 역명 매칭", result.size(), stationNames.size());
+        return result;
+    }
+
+    private Mono<MolitCatalogue> fetchCatalogue() {
+        long startTime = System.currentTimeMillis();
+        return fetchPageWithRetry(1).flatMap(first -> {
+            int totalPages = (int) Math.ceil((double) first.getTotalCount() / cataloguePageSize);
+            logger.info("MOLIT 전국 역 목록 수집: 전체 {}건, {} 페이지", first.getTotalCount(), totalPages);
+
+            return Flux.range(2, Math.max(0, totalPages - 1))
+                .flatMap(this::fetchPageWithRetry, concurrency)
+                .collectList()
+                .map(pages -> {
+                    List<MolitStationInfo> items = new ArrayList<>(first.getItems());
+                    pages.forEach(page -> items.addAll(page.getItems()));
+                    MolitCatalogue snapshot = MolitCatalogue.build(items, first.getTotalCount(), this::normalizeName);
+                    logger.info("MOLIT 전국 역 목록 스냅샷 생성: {}건 ({} 역명), {} 페이지, {}ms",
+                        snapshot.size(), snapshot.nameCount(), totalPages, System.currentTimeMillis() - startTime);
+                    return snapshot;
+                });
+        });
+    }
+
+    private Mono<MolitApiClient.CataloguePage> fetchPageWithRetry(int pageNo) {
+        return withRetry(Mono.defer(() -> molitApiClient.fetchCataloguePage(cataloguePageSize, pageNo)
+                .timeout(Duration.ofSeconds(requestTimeoutSeconds))),
+            "page " + pageNo);
+    }
+
+    private String normalizeName(String stationName) {
+        return nameResolver.cleanStationName(stationName).replace(" ", "");
+    }
+
+    /**
+     * 역명별 API 조회 (역명 하나당 호출 1회)
+     */
+    public Mono<Map<String, List<MolitStationInfo>>> collectByName(Collection<String> stationNames) {
+        int totalCount = stationNames.size();
+        if (totalCount == 0) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        logger.info("MOLIT API 데이터 수집 시작: {} 개 역 (동시 요청 {}개)", totalCount, concurrency);
+        long startTime = System.currentTimeMillis();
+        AtomicInteger processedCount = new AtomicInteger(0);
+        AtomicInteger failedCount = new AtomicInteger(0);
+        int progressStep = Math.max(1, totalCount / 10);
+
+        return Flux.fromIterable(stationNames)
+            .flatMap(stationName -> fetchWithRetry(stationName)
+                .onErrorResume(error -> {
+                    failedCount.incrementAndGet();
+                    logger.warn("MOLIT API 호출 실패: {} - {}", stationName, error.getMessage());
+                    return Mono.just(Collections.emptyList());
+                })
+                .doOnNext(data -> {
+                    int processed = processedCount.incrementAndGet();
+                    if (processed % progressStep == 0 || processed == totalCount) {
+                        logger.info("MOLIT API 진행률: {}/{} (실패 {}개)", processed, totalCount, failedCount.get());
+                    }
+                })
+                .map(data -> Map.entry(stationName, data)), concurrency)
+            .filter(entry -> !entry.getValue().isEmpty())
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .doOnSuccess(result -> logger.info("MOLIT 데이터 수집 완료: 성공 {}개 / 전체 {}개 역, 실패 {}개, {}ms",
+                result.size(), totalCount, failedCount.get(), System.currentTimeMillis() - startTime));
+    }
+
+    private Mono<List<MolitStationInfo>> fetchWithRetry(String stationName) {
+        // 타임아웃은 호출 간격 대기를 포함하므로 동시 요청 수 × 호출 간격보다 충분히 길게 설정
+        return withRetry(Mono.defer(() -> molitApiClient.fetchStationDetails(stationName)
+                .timeout(Duration.ofSeconds(requestTimeoutSeconds))),
+            stationName);
+    }
+
+    /**
+     * 일시적 오류 재시도 (재시도 시 defer부터 다시 구독되어 호출 슬롯을 새로 예약)
+     */
+    private <T> Mono<T> withRetry(Mono<T> request, String target) {
+        return request.retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(minBackoffMs))
+            .jitter(0.5)
+            .filter(MolitBatchCollector::isTransient)
+            .doBeforeRetry(signal -> logger.debug("MOLIT API 재시도 {}회: {} - {}",
+                signal.totalRetries() + 1, target, signal.failure().getMessage())));
+    }
+
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException) {
+            int status = ((WebClientResponseException) error).getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+}
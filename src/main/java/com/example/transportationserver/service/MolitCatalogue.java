@@ -0,0 +1,89 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.service.MolitApiClient.MolitStationInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 국토교통부 전국 역 목록 스냅샷 (불변)
+ * 정규화된 역명 → 역 정보 목록 멀티맵으로 역명별 API 호출 없이 조회
+ */
+final class MolitCatalogue {
+
+    private final List<MolitStationInfo> stations;
+    private final Map<String, List<MolitStationInfo>> byName;
+    private final int receivedCount;
+    private final int totalCount;
+    private final Function<String, String> normalizer;
+
+    private MolitCatalogue(List<MolitStationInfo> stations, Map<String, List<MolitStationInfo>> byName,
+                           int receivedCount, int totalCount, Function<String, String> normalizer) {
+        this.stations = stations;
+        this.byName = byName;
+        this.receivedCount = receivedCount;
+        this.totalCount = totalCount;
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * 스냅샷 구성 (페이지 경계에서 중복된 항목은 역 ID 기준으로 제거)
+     */
+    static MolitCatalogue build(List<MolitStationInfo> items, int totalCount, Function<String, String> normalizer) {
+        Map<String, MolitStationInfo> unique = new LinkedHashMap<>();
+        for (MolitStationInfo item : items) {
+            if (item.getStationName() == null) {
+                continue;
+            }
+            String id = item.getStationId() != null ? item.getStationId() : item.getStationName() + "|" + item.getRouteName();
+            unique.putIfAbsent(id, item);
+        }
+
+        Map<String, List<MolitStationInfo>> byName = new HashMap<>();
+        for (MolitStationInfo item : unique.values()) {
+            byName.computeIfAbsent(normalizer.apply(item.getStationName()), k -> new ArrayList<>()).add(item);
+        }
+        byName.replaceAll((name, list) -> Collections.unmodifiableList(list));
+
+        return new MolitCatalogue(Collections.unmodifiableList(new ArrayList<>(unique.values())), byName,
+            items.size(), totalCount, normalizer);
+    }
+
+    /**
+     * 역명으로 조회 (정규화 후 일치, 없으면 빈 목록)
+     */
+    List<MolitStationInfo> find(String stationName) {
+        if (stationName == null) {
+            return List.of();
+        }
+        return byName.getOrDefault(normalizer.apply(stationName), List.of());
+    }
+
+    List<MolitStationInfo> getStations() {
+        return stations;
+    }
+
+    int size() {
+        return stations.size();
+    }
+
+    int nameCount() {
+        return byName.size();
+    }
+
+    /**
+     * 응답의 전체 건수만큼 모두 수신했는지 여부
+     */
+    boolean isComplete() {
+        return totalCount > 0 && receivedCount >= totalCount;
+    }
+
+    int getTotalCount() {
+        return totalCount;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.CoordinateValidator;
+import com.example.transportationserver.util.GeoHash;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 근처 역 후보 캐시
+ * 요청 좌표를 지오해시 셀로, 반경을 구간(bucket)으로 양자화하여 캐시 키로 사용
+ * 셀 내 어느 지점에서 조회하더라도 누락이 없도록 셀 중심 기준으로 여유 반경까지 후보를 저장하며,
+ * 호출 측에서 실제 좌표 기준으로 거리를 다시 계산하여 필터링
+ */
+@Component
+public class NearbyCandidateCache {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    // 반경 구간 (km) - 요청 반경은 이 값 이상 중 가장 작은 구간으로 올림
+    private static final double[] RADIUS_BUCKETS_KM = {1.0, 2.0, 5.0, 10.0, 20.0, 50.0};
+
+    @Autowired
+    private StationSpatialIndex spatialIndex;
+
+    @Value("${station.nearby-cache.geohash-precision:6}")
+    private int geohashPrecision;
+
+    /**
+     * 요청 좌표/반경이 속한 캐시 셀 계산
+     */
+    public NearbyCell cellFor(double latitude, double longitude, double radiusKm) {
+        double bucketKm = radiusBucket(radiusKm);
+        return cellOf(GeoHash.encode(latitude, longitude, precisionFor(bucketKm)), bucketKm);
+    }
+
+    /**
+     * 캐시 키로부터 후보 목록을 다시 계산 (백그라운드 갱신용, 캐시를 거치지 않음)
+     */
+    public List<SubwayStation> reloadCandidates(String key) {
+        return getCandidates(cellForKey(key));
+    }
+
+    /**
+     * 해당 키의 후보 목록에 주어진 좌표의 역이 포함될 수 있는지 여부 (부분 무효화용)
+     */
+    public boolean covers(String key, double latitude, double longitude) {
+        NearbyCell cell = cellForKey(key);
+        return CoordinateValidator.calculateDistance(cell.getCenterLat(), cell.getCenterLon(), latitude, longitude)
+            <= cell.getCandidateRadiusKm();
+    }
+
+    private NearbyCell cellForKey(String key) {
+        int separator = key.lastIndexOf('_');
+        return cellOf(key.substring(0, separator), Double.parseDouble(key.substring(separator + 1)));
+    }
+
+    private NearbyCell cellOf(String hash, double bucketKm) {
+        double[] bounds = GeoHash.bounds(hash);
+
+        double centerLat = (bounds[0] + bounds[1]) / 2;
+        double centerLon = (bounds[2] + bounds[3]) / 2;
+
+        // 셀 중심에서 꼭짓점까지의 거리 (적도에 가까운 변 기준으로 경도 폭이 가장 넓음)
+        double halfHeightKm = (bounds[1] - bounds[0]) / 2 * KM_PER_DEGREE_LAT;
+        double widestLat = Math.min(Math.abs(bounds[0]), Math.abs(bounds[1]));
+        double halfWidthKm = (bounds[3] - bounds[2]) / 2 * KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(widestLat));
+        double halfDiagonalKm = Math.hypot(halfHeightKm, halfWidthKm) * 1.01; // 거리 계산 오차 여유 1%
+
+        return new NearbyCell(hash + "_" + bucketKm, centerLat, centerLon, bucketKm + halfDiagonalKm);
+    }
+
+    /**
+     * 셀 중심 기준 후보 역 목록 (셀 내 모든 지점에서 구간 반경 내에 들 수 있는 역)
+     */
+    @Cacheable(value = "nearbyStations", key = "#cell.key")
+    public List<SubwayStation> getCandidates(NearbyCell cell) {
+        return spatialIndex.findWithinRadius(cell.getCenterLat(), cell.getCenterLon(),
+                cell.getCandidateRadiusKm(), Integer.MAX_VALUE).stream()
+            .map(StationSpatialIndex.Neighbor::getStation)
+            .collect(Collectors.toList());
+    }
+
+    private double radiusBucket(double radiusKm) {
+        for (double bucket : RADIUS_BUCKETS_KM) {
+            if (radiusKm <= bucket) {
+                return bucket;
+            }
+        }
+        return Math.ceil(radiusKm);
+    }
+
+    /**
+     * 반경이 클수록 셀을 크게 잡아 후보 중복 저장과 키 개수를 줄임
+     */
+    private int precisionFor(double bucketKm) {
+        int precision = geohashPrecision;
+        if (bucketKm > 10.0) {
+            precision -= 2;
+        } else if (bucketKm > 2.0) {
+            precision -= 1;
+        }
+        return Math.max(1, Math.min(precision, GeoHash.MAX_PRECISION));
+    }
+
+    /**
+     * 캐시 셀 (키 + 후보 조회 기준)
+     */
+    public static class NearbyCell {
+        private final String key;
+        private final double centerLat;
+        private final double centerLon;
+        private final double candidateRadiusKm;
+
+        public NearbyCell(String key, double centerLat, double centerLon, double candidateRadiusKm) {
+            this.key = key;
+            this.centerLat = centerLat;
+            this.centerLon = centerLon;
+            this.candidateRadiusKm = candidateRadiusKm;
+        }
+
+        public String getKey() { return key; }
+        public double getCenterLat() { return centerLat; }
+        public double getCenterLon() { return centerLon; }
+        public double getCandidateRadiusKm() { return candidateRadiusKm; }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.transportationserver.service;
 
 import com.example.transportationserver.util.CoordinateValidator;
 import com.example.transportationserver.util.ErrorHandler;
+import com.example.transportationserver.util.ReactiveRateLimiter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
@@ -22,21 +23,31 @@ public class OpenStreetMapClient {
     
     private static final Logger logger = LoggerFactory.getLogger(OpenStreetMapClient.class);
     private final WebClient webClient;
-    private final RateLimitService rateLimitService;
+    private final ReactiveRateLimiter rateLimiter;
+    private final GeocodeCacheService geocodeCache;
     
     @Autowired
     public OpenStreetMapClient(@Qualifier("nominatimWebClient") WebClient webClient,
-                              RateLimitService rateLimitService) {
+                              ReactiveRateLimiter rateLimiter,
+                              GeocodeCacheService geocodeCache) {
         this.webClient = webClient;
-        this.rateLimitService = rateLimitService;
+        this.rateLimiter = rateLimiter;
+        this.geocodeCache = geocodeCache;
     }
     
     /**
-     * 지하철역 좌표 검색 (1초 제한 적용)
+     * 지하철역 좌표 검색 (1초 제한 적용, 지오코딩 캐시 우선)
      */
     public Mono<CoordinateResult> searchStationCoordinates(String stationName, String region) {
-        return enforceRateLimit()
-                .then(performSearch(stationName, region))
+        // 검색 쿼리가 OpenStreetMapService와 다르므로 캐시 제공자 키를 구분
+        return geocodeCache.cached("osm-client", stationName, region,
+                    entry -> entry.isFound()
+                        ? new CoordinateResult(entry.getLatitude(), entry.getLongitude(), entry.getDisplayName(), entry.getConfidence())
+                        : new CoordinateResult(),
+                    result -> result.isValid()
+                        ? GeocodeCacheService.found(result.getLatitude(), result.getLongitude(), result.getAddress(), result.getConfidence())
+                        : GeocodeCacheService.notFound(),
+                    performSearch(stationName, region))
                 .doOnSubscribe(s -> logger.debug("Searching coordinates for: {} in {}", stationName, region))
                 .doOnSuccess(result -> {
                     if (result != null && result.isValid()) {
@@ -46,27 +57,18 @@ public class OpenStreetMapClient {
                         logger.warn("No valid coordinates found for: {} in {}", stationName, region);
                     }
                 })
-                .onErrorResume(ErrorHandler.createReactiveErrorHandler(null, logger, "좌표 검색 (" + stationName + ")"));
+                .onErrorResume(ErrorHandler.createReactiveErrorHandler(new CoordinateResult(), logger, "좌표 검색 (" + stationName + ")"));
     }
     
     /**
-     * Rate limiting 적용 (1초 제한)
-     */
-    private Mono<Void> enforceRateLimit() {
-        return Mono.fromRunnable(() -> {
-            rateLimitService.waitForOpenStreetMap();
-        }).subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic()).then();
-    }
-    
-    /**
-     * 실제 검색 수행
+     * 실제 검색 수행 (오류는 캐시에 저장되지 않도록 그대로 전달)
      */
     private Mono<CoordinateResult> performSearch(String stationName, String region) {
         // 검색 쿼리 구성: "역명 지하철역 지역명"
         String query = String.format("%s 지하철역 %s", 
                 stationName.replace("역", ""), region != null ? region : "");
         
-        return webClient.get()
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.OPENSTREETMAP, webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/search")
                         .queryParam("q", query)
@@ -76,9 +78,8 @@ public class OpenStreetMapClient {
                         .queryParam("extratags", 1)
                         .build())
                 .retrieve()
-                .bodyToMono(NominatimResponse[].class)
-                .map(this::extractBestResult)
-                .onErrorReturn(new CoordinateResult()); // 에러 시 빈 결과 반환
+                .bodyToMono(NominatimResponse[].class))
+                .map(this::extractBestResult);
     }
     
     /**
@@ -108,7 +109,7 @@ public class OpenStreetMapClient {
             return new CoordinateResult(lat, lon, first.display_name, first.importance);
         }
         
-        return null; // 유효한 좌표가 없을 경우
+        return new CoordinateResult(); // 유효한 좌표가 없을 경우
     }
     
     /**
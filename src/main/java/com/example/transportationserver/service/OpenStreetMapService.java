@@ -2,6 +2,8 @@ package com.example.transportationserver.service;
 
 import com.example.transportationserver.util.CoordinateValidator;
 import com.example.transportationserver.util.ErrorHandler;
+import com.example.transportationserver.util.ReactiveRateLimiter;
+import com.example.transportationserver.util.RequestCoalescer;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.slf4j.Logger;
@@ -23,16 +25,25 @@ public class OpenStreetMapService {
     private static final Logger logger = LoggerFactory.getLogger(OpenStreetMapService.class);
     
     private final WebClient webClient;
-    private final RateLimitService rateLimitService;
+    private final ReactiveRateLimiter rateLimiter;
+    private final GeocodeCacheService geocodeCache;
+    
+    // 역명+지역별 좌표 검색 합치기 (RequestCoalescingConfig)
+    private final RequestCoalescer<String, Optional<Coordinate>> coordinateRequests;
     
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
     
     @Autowired
     public OpenStreetMapService(@Qualifier("nominatimWebClient") WebClient webClient,
-                               RateLimitService rateLimitService) {
+                               ReactiveRateLimiter rateLimiter,
+                               GeocodeCacheService geocodeCache,
+                               @Qualifier("nominatimCoordinateRequests")
+                               RequestCoalescer<String, Optional<Coordinate>> coordinateRequests) {
         this.webClient = webClient;
-        this.rateLimitService = rateLimitService;
+        this.rateLimiter = rateLimiter;
+        this.geocodeCache = geocodeCache;
+        this.coordinateRequests = coordinateRequests;
     }
     
     public Mono<Optional<Coordinate>> searchStationCoordinates(String stationName, String region) {
@@ -40,10 +51,28 @@ public class OpenStreetMapService {
         final String finalStationName = stationName != null ? stationName.trim() : "";
         final String finalRegion = region != null ? region.trim() : "";
         
-        logger.info("OpenStreetMap 좌표 검색 시작: {} (지역: {})", finalStationName, finalRegion);
-        
-        // 1차 검색 시도
-        return performSearch(finalStationName, finalRegion, buildSearchQuery(finalStationName, finalRegion))
+        // 동시 요청은 하나로 합치고, 지오코딩 캐시에 있으면 네트워크 호출 없이 반환 (결과 없음도 캐시됨)
+        return coordinateRequests.execute(finalStationName + "|" + finalRegion,
+                () -> geocodeCache.cached("osm", finalStationName, finalRegion,
+                    entry -> entry.isFound()
+                        ? Optional.of(new Coordinate(entry.getLatitude(), entry.getLongitude(), entry.getDisplayName()))
+                        : Optional.<Coordinate>empty(),
+                    result -> result.isPresent()
+                        ? GeocodeCacheService.found(result.get().getLatitude(), result.get().getLongitude(), result.get().getSource(), null)
+                        : GeocodeCacheService.notFound(),
+                    searchNominatim(finalStationName, finalRegion)))
+            .onErrorResume(ErrorHandler.createOptionalErrorHandler(logger, "OSM 검색 (" + finalStationName + ")"));
+    }
+    
+    /**
+     * Nominatim 검색 (1차 실패 시 2차 검색, 네트워크 오류는 캐시에 저장되지 않도록 그대로 전달)
+     */
+    private Mono<Optional<Coordinate>> searchNominatim(String finalStationName, String finalRegion) {
+        return Mono.defer(() -> {
+                logger.info("OpenStreetMap 좌표 검색 시작: {} (지역: {})", finalStationName, finalRegion);
+                // 1차 검색 시도
+                return performSearch(finalStationName, finalRegion, buildSearchQuery(finalStationName, finalRegion));
+            })
             .flatMap(result -> {
                 if (result.isPresent()) {
                     logger.info("1차 검색 성공: {} -> {}", finalStationName, result.get());
@@ -70,8 +99,8 @@ public class OpenStreetMapService {
     private Mono<Optional<Coordinate>> performSearch(String stationName, String region, String query) {
         logger.info("OSM 검색 수행: '{}' -> 쿼리: '{}'", stationName, query);
         
-        return enforceRateLimit()
-            .then(webClient.get()
+        // 재시도도 limiter를 다시 거치므로 Nominatim 정책(초당 1회)을 넘지 않음
+        return rateLimiter.executeLimited(ReactiveRateLimiter.ApiType.OPENSTREETMAP, webClient.get()
                 .uri(uriBuilder -> uriBuilder
                     .path("/search")
                     .queryParam("q", query)
@@ -83,7 +112,7 @@ public class OpenStreetMapService {
                 .retrieve()
                 .bodyToFlux(NominatimResult.class)
                 .collectList()
-                .timeout(REQUEST_TIMEOUT)
+                .timeout(REQUEST_TIMEOUT))
                 .retryWhen(Retry.fixedDelay(1, RETRY_DELAY))
                 .doOnNext(results -> {
                     logger.debug("OSM API 응답: {}개 결과 수신 (쿼리: '{}')", results.size(), query);
@@ -94,16 +123,7 @@ public class OpenStreetMapService {
                     }
                 })
                 .map(this::selectBestResult)
-                .onErrorResume(ErrorHandler.createOptionalErrorHandler(logger, "OSM 검색 (쿼리: '" + query + "')")));
-    }
-    
-    /**
-     * OpenStreetMap API 정책 준수: 1초에 1번 요청 제한
-     */
-    private Mono<Void> enforceRateLimit() {
-        return Mono.fromRunnable(() -> {
-            rateLimitService.waitForOpenStreetMap();
-        }).subscribeOn(reactor.core.scheduler.Schedulers.boundedElastic()).then();
+                .doOnError(error -> logger.warn("OSM 검색 실패 (쿼리: '{}'): {}", query, error.getMessage()));
     }
     
     private String buildSearchQuery(String stationName, String region) {
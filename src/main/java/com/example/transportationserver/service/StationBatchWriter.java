@@ -0,0 +1,196 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.util.StationContentHash;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 지하철역 일괄 upsert
+ * 역 목록을 chunk-size 단위의 다중 행 INSERT ... ON CONFLICT DO UPDATE 구문으로 나누고
+ * 구문마다 별도 트랜잭션에서 BATCH 실행기로 전송
+ * 구문이 실패하면 절반으로 나눠 다시 실행하여 실패 원인인 역만 누락시키고, 누락된 역은 결과로 반환
+ * 같은 구문 안에서 한 행을 두 번 갱신할 수 없으므로 호출 측에서 충돌 키 기준 중복을 제거해야 함
+ */
+@Component
+public class StationBatchWriter {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StationBatchWriter.class);
+    
+    @Autowired
+    @Qualifier("batchSqlSessionTemplate")
+    private SqlSessionTemplate batchSqlSessionTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${station.batch-upsert.chunk-size:500}")
+    private int chunkSize;
+    
+    private TransactionTemplate transactionTemplate;
+    
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        // 매퍼 파라미터 순서가 해시 대상 컬럼과 어긋나면 다른 컬럼에 값이 들어가므로 기동 시 확인
+        String expected = Arrays.stream(StationContentHash.COLUMNS.split(",\\s*"))
+            .map(column -> "#{s." + toPropertyName(column) + "}")
+            .collect(Collectors.joining(", "));
+        if (!expected.equals(SubwayStationMapper.CONTENT_VALUES)) {
+            throw new IllegalStateException("SubwayStationMapper.CONTENT_VALUES가 StationContentHash.COLUMNS와 다름: "
+                + SubwayStationMapper.CONTENT_VALUES);
+        }
+    }
+    
+    /**
+     * 외부 ID 기준 일괄 upsert (서울시 API 동기화)
+     * @return 반영된 행 수와 저장하지 못한 역
+     */
+    public UpsertResult upsertByExternalId(List<SubwayStation> stations) {
+        return upsert(stations, "external_id", SubwayStationMapper::upsertByExternalId);
+    }
+    
+    /**
+     * 역명 + 지역 + 노선 기준 일괄 upsert (다층 데이터 동기화)
+     * @return 반영된 행 수와 저장하지 못한 역
+     */
+    public UpsertResult upsertByIdentity(List<SubwayStation> stations) {
+        return upsert(stations, "identity", SubwayStationMapper::upsertByIdentity);
+    }
+    
+    /**
+     * 역명 + 지역 + 노선 기준 일괄 upsert, 내용을 새 값으로 갱신 (외부 ID 없는 서울시 API 역)
+     * @return 반영된 행 수와 저장하지 못한 역
+     */
+    public UpsertResult upsertContentByIdentity(List<SubwayStation> stations) {
+        return upsert(stations, "identity-content", SubwayStationMapper::upsertContentByIdentity);
+    }
+    
+    private UpsertResult upsert(List<SubwayStation> stations, String conflictKey,
+                                BiFunction<SubwayStationMapper, List<SubwayStation>, Integer> statement) {
+        if (stations == null || stations.isEmpty()) {
+            return UpsertResult.EMPTY;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        int chunks = 0;
+        int[] affected = {0};
+        List<SubwayStation> failed = new ArrayList<>();
+        for (int from = 0; from < stations.size(); from += chunkSize) {
+            List<SubwayStation> chunk = stations.subList(from, Math.min(from + chunkSize, stations.size()));
+            chunks++;
+            writeChunk(chunk, conflictKey, statement, affected, failed);
+        }
+        
+        if (!failed.isEmpty()) {
+            logger.warn("일괄 upsert 부분 실패 ({}): {}개 중 {}개 역 누락 - {}", conflictKey, stations.size(), failed.size(),
+                failed.stream().map(StationDelta::identityKey).collect(Collectors.joining(", ")));
+        }
+        logger.info("일괄 upsert 완료 ({}): {}개 역, {}개 구문, {}행 반영, {}ms",
+            conflictKey, stations.size(), chunks, affected[0], System.currentTimeMillis() - startTime);
+        return new UpsertResult(affected[0], failed);
+    }
+    
+    /**
+     * 구문 하나를 별도 트랜잭션으로 실행하고, 실패하면 절반씩 나눠 다시 실행 (한 행까지 내려가면 실패로 기록)
+     */
+    private void writeChunk(List<SubwayStation> chunk, String conflictKey,
+                            BiFunction<SubwayStationMapper, List<SubwayStation>, Integer> statement,
+                            int[] affected, List<SubwayStation> failed) {
+        try {
+            Integer count = transactionTemplate.execute(status -> executeChunk(chunk, statement));
+            affected[0] += count != null ? count : 0;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                failed.add(chunk.get(0));
+                logger.error("일괄 upsert 실패 ({}): {} - {}",
+                    conflictKey, StationDelta.identityKey(chunk.get(0)), e.getMessage());
+                return;
+            }
+            logger.warn("일괄 upsert 구문 실패 ({}): {}개 역 롤백, 나눠서 재시도 - {}",
+                conflictKey, chunk.size(), e.getMessage());
+            int middle = chunk.size() / 2;
+            writeChunk(chunk.subList(0, middle), conflictKey, statement, affected, failed);
+            writeChunk(chunk.subList(middle, chunk.size()), conflictKey, statement, affected, failed);
+        }
+    }
+    
+    private int executeChunk(List<SubwayStation> chunk,
+                             BiFunction<SubwayStationMapper, List<SubwayStation>, Integer> statement) {
+        SubwayStationMapper mapper = batchSqlSessionTemplate.getMapper(SubwayStationMapper.class);
+        statement.apply(mapper, chunk);
+        
+        int affected = 0;
+        for (BatchResult result : batchSqlSessionTemplate.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                if (count > 0) {
+                    affected += count;
+                }
+            }
+        }
+        return affected;
+    }
+    
+    /**
+     * 일괄 upsert 결과 (반영된 행 수 + 재시도 후에도 저장하지 못한 역)
+     */
+    public static final class UpsertResult {
+        static final UpsertResult EMPTY = new UpsertResult(0, List.of());
+        
+        private final int affected;
+        private final List<SubwayStation> failed;
+        
+        UpsertResult(int affected, List<SubwayStation> failed) {
+            this.affected = affected;
+            this.failed = Collections.unmodifiableList(failed);
+        }
+        
+        public int getAffected() { return affected; }
+        public List<SubwayStation> getFailed() { return failed; }
+        
+        public boolean hasFailures() {
+            return !failed.isEmpty();
+        }
+        
+        /**
+         * 두 결과 합치기 (충돌 키별로 나눠 실행한 경우)
+         */
+        public UpsertResult plus(UpsertResult other) {
+            List<SubwayStation> combined = new ArrayList<>(failed);
+            combined.addAll(other.failed);
+            return new UpsertResult(affected + other.affected, combined);
+        }
+    }
+    
+    private static String toPropertyName(String column) {
+        StringBuilder property = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                property.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return property.toString();
+    }
+}
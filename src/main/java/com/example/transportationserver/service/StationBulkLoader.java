@@ -0,0 +1,201 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.StationContentHash;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * PostgreSQL COPY 기반 전체 역 데이터 적재
+ * 1) 트랜잭션 범위의 임시 스테이징 테이블 생성 (커밋 시 자동 삭제)
+ * 2) COPY FROM STDIN(CSV)으로 역 목록을 스트리밍
+ * 3) 스테이징 → subway_stations 병합 (역명 + 지역 + 노선 기준, ux_subway_stations_identity)
+ * 4) 증분 동기화에서 사라진 역 삭제 (선택)
+ * 모든 단계가 한 트랜잭션에서 실행되므로 적재 중에도 조회 쪽은 이전 데이터를 일관되게 봄
+ */
+@Component
+public class StationBulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationBulkLoader.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // 내용 컬럼은 해시 대상과 같은 목록 사용 (StationContentHash.COLUMNS)
+    private static final String STAGING_COLUMNS = StationContentHash.COLUMNS + ", content_hash, sync_source";
+
+    private static final String CREATE_STAGING_SQL =
+        "CREATE TEMP TABLE subway_stations_staging ("
+        + "name VARCHAR(100) NOT NULL, line_number VARCHAR(20), station_code VARCHAR(20), "
+        + "latitude DOUBLE PRECISION, longitude DOUBLE PRECISION, address TEXT, subway_station_id VARCHAR(50), "
+        + "region VARCHAR(50), city VARCHAR(50), full_name VARCHAR(200), aliases TEXT, "
+        + "data_source VARCHAR(20), has_coordinates BOOLEAN, content_hash VARCHAR(64), sync_source VARCHAR(20)"
+        + ") ON COMMIT DROP";
+
+    private static final String COPY_SQL =
+        "COPY subway_stations_staging (" + STAGING_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String DELETE_SQL = "DELETE FROM subway_stations WHERE id = ANY (?)";
+
+    // 같은 키가 여러 번 들어온 경우 좌표가 있는 행을 우선 사용
+    // external_id는 서울시 동기화의 충돌 키이므로 건드리지 않음 (MOLIT ID는 subway_station_id에만 저장)
+    private static final String MERGE_SQL =
+        "INSERT INTO subway_stations (" + STAGING_COLUMNS + ", created_at, updated_at) "
+        + "SELECT DISTINCT ON (name, COALESCE(region, ''), COALESCE(line_number, '')) "
+        + STAGING_COLUMNS + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+        + "FROM subway_stations_staging "
+        + "ORDER BY name, COALESCE(region, ''), COALESCE(line_number, ''), has_coordinates DESC NULLS LAST "
+        + "ON CONFLICT (name, (COALESCE(region, '')), (COALESCE(line_number, ''))) DO UPDATE SET "
+        + "station_code = COALESCE(EXCLUDED.station_code, subway_stations.station_code), "
+        + "latitude = COALESCE(EXCLUDED.latitude, subway_stations.latitude), "
+        + "longitude = COALESCE(EXCLUDED.longitude, subway_stations.longitude), "
+        + "has_coordinates = COALESCE(EXCLUDED.latitude, subway_stations.latitude) IS NOT NULL "
+        + "AND COALESCE(EXCLUDED.longitude, subway_stations.longitude) IS NOT NULL, "
+        + "address = COALESCE(EXCLUDED.address, subway_stations.address), "
+        + "subway_station_id = COALESCE(EXCLUDED.subway_station_id, subway_stations.subway_station_id), "
+        + "city = COALESCE(EXCLUDED.city, subway_stations.city), "
+        + "full_name = COALESCE(EXCLUDED.full_name, subway_stations.full_name), "
+        + "aliases = COALESCE(EXCLUDED.aliases, subway_stations.aliases), "
+        + "data_source = COALESCE(EXCLUDED.data_source, subway_stations.data_source), "
+        + "content_hash = EXCLUDED.content_hash, "
+        + "sync_source = EXCLUDED.sync_source, "
+        + "updated_at = CURRENT_TIMESTAMP";
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * 역 목록 전체 적재
+     * @return 병합으로 삽입 또는 갱신된 행 수
+     */
+    @Transactional
+    public int load(List<SubwayStation> stations) {
+        return load(stations, List.of());
+    }
+
+    /**
+     * 역 목록 적재 + 지정한 역 삭제 (증분 동기화, 한 트랜잭션)
+     * @return 병합으로 삽입 또는 갱신된 행 수
+     */
+    @Transactional
+    public int load(List<SubwayStation> stations, List<Long> deleteIds) {
+        boolean hasStations = stations != null && !stations.isEmpty();
+        boolean hasDeletes = deleteIds != null && !deleteIds.isEmpty();
+        if (!hasStations && !hasDeletes) {
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            int merged = 0;
+            if (hasStations) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING_SQL);
+                }
+
+                long copied = copyToStaging(connection, stations);
+                long copyTime = System.currentTimeMillis() - startTime;
+
+                try (Statement statement = connection.createStatement()) {
+                    merged = statement.executeUpdate(MERGE_SQL);
+                }
+                logger.info("COPY 적재: {}행 스테이징({}ms), {}행 병합", copied, copyTime, merged);
+            }
+
+            if (hasDeletes) {
+                try (PreparedStatement statement = connection.prepareStatement(DELETE_SQL)) {
+                    statement.setArray(1, connection.createArrayOf("bigint", deleteIds.toArray()));
+                    logger.info("역 삭제: {}행", statement.executeUpdate());
+                }
+            }
+
+            logger.info("역 데이터 적재 완료: 총 {}ms", System.currentTimeMillis() - startTime);
+            return merged;
+
+        } catch (SQLException e) {
+            throw new IllegalStateException("역 데이터 COPY 적재 실패: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long copyToStaging(Connection connection, List<SubwayStation> stations) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+            for (SubwayStation station : stations) {
+                if (station.getName() == null || station.getName().isEmpty()) {
+                    continue;
+                }
+                appendRow(buffer, station);
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeBuffer(copyIn, buffer);
+                }
+            }
+            writeBuffer(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void writeBuffer(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * CSV 한 행 (컬럼 순서는 STAGING_COLUMNS와 동일, 빈 값은 NULL)
+     */
+    private void appendRow(StringBuilder buffer, SubwayStation station) {
+        for (Object value : StationContentHash.values(station)) {
+            if (value instanceof String text) {
+                appendText(buffer, text);
+            } else {
+                appendValue(buffer, value);
+            }
+            buffer.append(',');
+        }
+        appendText(buffer, station.getContentHash()).append(',');
+        appendText(buffer, station.getSyncSource()).append('\n');
+    }
+
+    private StringBuilder appendText(StringBuilder buffer, String value) {
+        if (value == null) {
+            return buffer;
+        }
+        // CSV 인용: 따옴표 안의 빈 문자열은 NULL이 아닌 ''로 적재됨
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        return buffer.append('"');
+    }
+
+    private StringBuilder appendValue(StringBuilder buffer, Object value) {
+        return value == null ? buffer : buffer.append(value);
+    }
+}
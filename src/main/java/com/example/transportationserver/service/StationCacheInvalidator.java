@@ -0,0 +1,263 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.CoordinateValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 역 단위 캐시 부분 무효화
+ * 역 하나가 변경되었을 때 전체 캐시를 비우지 않고 해당 역과 관련된 키만 제거
+ * - stations: 전체 목록('all')과 해당 역 ID
+ * - stationSearch: 검색어가 역명과 매칭되는 키
+ * - nearbyStations: 후보 범위에 해당 좌표가 포함되는 셀
+ * 변경 전/후 역 행을 알고 있으면 stationChanged로 인메모리 인덱스의 해당 항목도 함께 교체
+ * 다른 인스턴스 전파가 켜져 있으면 변경을 대기열에 쌓고 StationInvalidationBus가 모아서 NOTIFY로 발행
+ */
+@Component
+public class StationCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationCacheInvalidator.class);
+
+    // stationSearch 키 접두사 (긴 접두사부터 검사)
+    private static final String[] SEARCH_KEY_PREFIXES = {"detailed_grouped_", "smart_grouped_", "grouped_", "smart_"};
+
+    // 오타 허용 검색 키는 역명 포함 관계로 판단할 수 없으므로 역명 변경 시 모두 제거
+    private static final String FUZZY_SEARCH_KEY_PREFIX = "smart_grouped_fuzzy_";
+
+    private static final int MAX_PENDING_CHANGES = 10_000;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private NearbyCandidateCache nearbyCandidateCache;
+
+    @Autowired
+    private StationSpatialIndex spatialIndex;
+
+    @Autowired
+    private StationNameIndex nameIndex;
+
+    // 다른 인스턴스에 전파할 변경 (StationInvalidationBus가 활성화되어 있을 때만 적재)
+    private final Queue<StationChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    private final AtomicBoolean pendingOverflow = new AtomicBoolean(false);
+    private volatile boolean propagate;
+
+    /**
+     * 단일 역 변경 반영: 인덱스의 해당 항목만 교체한 뒤 변경 전/후 값으로 캐시 키 제거
+     * (인덱스를 먼저 고쳐야 제거된 캐시가 새 값으로 다시 채워짐)
+     * @param previous 변경 전 역 (신규 역이면 null)
+     * @param current 변경 후 역 (삭제된 역이면 null)
+     */
+    public void stationChanged(SubwayStation previous, SubwayStation current) {
+        if (current != null) {
+            spatialIndex.patch(List.of(current), List.of());
+            nameIndex.patch(List.of(current), List.of());
+        } else if (previous != null) {
+            spatialIndex.patch(List.of(), List.of(previous.getId()));
+            nameIndex.patch(List.of(), List.of(previous.getId()));
+        }
+        evictStation(previous);
+        evictStation(current);
+    }
+
+    /**
+     * 역 정보 기준 캐시 무효화 (현재 상태)
+     */
+    public void evictStation(SubwayStation station) {
+        if (station != null) {
+            evictStation(station.getId(), station.getName(), station.getLatitude(), station.getLongitude());
+        }
+    }
+
+    /**
+     * 역 ID/역명/좌표 기준 캐시 무효화
+     * 이름이나 좌표가 바뀌는 경우 변경 전/후 값으로 각각 호출
+     */
+    public void evictStation(Long id, String name, Double latitude, Double longitude) {
+        evictLocally(id, name, latitude, longitude);
+        if (propagate) {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_CHANGES) {
+                // 대량 변경은 개별 키 대신 전체 무효화로 전파
+                pendingOverflow.set(true);
+            } else {
+                pendingChanges.add(new StationChange(id, name, latitude, longitude));
+            }
+        }
+    }
+
+    /**
+     * 개별 역을 특정할 수 없는 대량 반영 후 역 관련 캐시 전체 무효화 (다른 인스턴스에도 전파)
+     */
+    public void evictAll() {
+        evictAllLocally();
+        if (propagate) {
+            pendingOverflow.set(true);
+        }
+    }
+
+    /**
+     * 이 인스턴스의 캐시만 무효화 (다른 인스턴스에서 받은 변경 적용용, 다시 전파하지 않음)
+     */
+    public void evictLocally(Long id, String name, Double latitude, Double longitude) {
+        Cache stations = cacheManager.getCache("stations");
+        if (stations != null) {
+            stations.evict("all");
+            if (id != null) {
+                stations.evict(id);
+            }
+        }
+
+        int searchEvicted = 0;
+        String stationName = normalize(name);
+        if (!stationName.isEmpty()) {
+            searchEvicted = evictKeys("stationSearch", key -> matchesName(key, stationName));
+        }
+
+        int nearbyEvicted = 0;
+        if (!CoordinateValidator.isCoordinateEmpty(latitude, longitude)) {
+            nearbyEvicted = evictKeys("nearbyStations",
+                key -> key instanceof String && nearbyCandidateCache.covers((String) key, latitude, longitude));
+        }
+
+        logger.debug("캐시 부분 무효화: id={}, name={}, 검색 키 {}개, 근처 셀 {}개 제거",
+            id, name, searchEvicted, nearbyEvicted);
+    }
+
+    /**
+     * 역 관련 캐시 전체 무효화 (전파 누락 가능성이 있을 때)
+     */
+    public void evictAllLocally() {
+        for (String cacheName : new String[]{"stations", "stationSearch", "nearbyStations"}) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        logger.info("역 관련 캐시 전체 무효화");
+    }
+
+    void enablePropagation() {
+        propagate = true;
+    }
+
+    /**
+     * 전파 대기 중인 변경 꺼내기 (StationInvalidationBus 전용)
+     */
+    PendingChanges drainPending() {
+        List<StationChange> changes = new ArrayList<>();
+        StationChange change;
+        while ((change = pendingChanges.poll()) != null) {
+            changes.add(change);
+        }
+        pendingCount.addAndGet(-changes.size());
+        boolean overflow = pendingOverflow.getAndSet(false);
+        if (overflow) {
+            pendingCount.set(0);
+            changes.clear();
+        }
+        return new PendingChanges(changes, overflow);
+    }
+
+    private int evictKeys(String cacheName, Predicate<Object> predicate) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache)) {
+            // 키 조회가 불가능한 캐시는 전체 무효화로 대체
+            if (cache != null) {
+                cache.clear();
+            }
+            return 0;
+        }
+
+        int[] evicted = {0};
+        ((CaffeineCache) cache).getNativeCache().asMap().keySet().removeIf(key -> {
+            if (predicate.test(key)) {
+                evicted[0]++;
+                return true;
+            }
+            return false;
+        });
+        return evicted[0];
+    }
+
+    /**
+     * 검색어가 역명의 일부이거나 역명이 검색어의 일부이면 해당 검색 결과가 바뀔 수 있음
+     */
+    private boolean matchesName(Object key, String stationName) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        String term = (String) key;
+        if (term.startsWith(FUZZY_SEARCH_KEY_PREFIX)) {
+            return true;
+        }
+        for (String prefix : SEARCH_KEY_PREFIXES) {
+            if (term.startsWith(prefix)) {
+                term = term.substring(prefix.length());
+                break;
+            }
+        }
+        term = normalize(term);
+        return term.isEmpty() || stationName.contains(term) || term.contains(stationName);
+    }
+
+    /**
+     * 변경된 역 (캐시 키 판단에 필요한 값만)
+     */
+    static final class StationChange {
+        final Long id;
+        final String name;
+        final Double latitude;
+        final Double longitude;
+
+        StationChange(Long id, String name, Double latitude, Double longitude) {
+            this.id = id;
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    /**
+     * 전파 대기 변경 묶음 (overflow면 개별 변경 대신 전체 무효화)
+     */
+    static final class PendingChanges {
+        final List<StationChange> changes;
+        final boolean overflow;
+
+        PendingChanges(List<StationChange> changes, boolean overflow) {
+            this.changes = changes;
+            this.overflow = overflow;
+        }
+
+        boolean isEmpty() {
+            return changes.isEmpty() && !overflow;
+        }
+    }
+
+    private String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = name.trim();
+        if (normalized.length() > 1 && normalized.endsWith("역")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+}
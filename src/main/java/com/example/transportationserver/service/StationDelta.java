@@ -0,0 +1,133 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.StationContentHash;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 증분 동기화 계획 (수집 데이터 ↔ DB 내용 해시 비교)
+ * 키가 같은 기존 행과 해시가 같으면 변경 없음, 다르면 갱신, 없으면 신규
+ * 삭제 후보는 deletable 조건을 만족하면서 이번 수집에 나타나지 않은 기존 행
+ */
+final class StationDelta {
+
+    private final List<SubwayStation> inserted = new ArrayList<>();
+    private final List<SubwayStation> updated = new ArrayList<>();
+    private final List<SubwayStation> previous = new ArrayList<>(); // updated와 같은 순서의 변경 전 행
+    private final List<SubwayStation> deleted = new ArrayList<>();
+    private int unchanged;
+
+    private StationDelta() {}
+
+    /**
+     * 수집 데이터에 해시를 채우고 기존 행과 비교
+     * 키가 null인 수집 행은 비교 없이 신규로 분류
+     */
+    static StationDelta compute(List<SubwayStation> incoming, List<SubwayStation> existing,
+                                Function<SubwayStation, String> keyFunction,
+                                Predicate<SubwayStation> deletable) {
+        Map<String, SubwayStation> existingByKey = new HashMap<>();
+        for (SubwayStation station : existing) {
+            String key = keyFunction.apply(station);
+            if (key != null) {
+                existingByKey.putIfAbsent(key, station);
+            }
+        }
+
+        // 같은 키가 여러 번 들어온 경우 좌표가 있는 행 우선
+        StationDelta delta = new StationDelta();
+        Map<String, SubwayStation> seen = new LinkedHashMap<>();
+        for (SubwayStation station : incoming) {
+            String key = keyFunction.apply(station);
+            if (key == null) {
+                delta.inserted.add(station);
+            } else {
+                seen.merge(key, station, (first, next) ->
+                    !Boolean.TRUE.equals(first.getHasCoordinates()) && Boolean.TRUE.equals(next.getHasCoordinates())
+                        ? next : first);
+            }
+        }
+        delta.inserted.forEach(station -> station.setContentHash(StationContentHash.of(station)));
+
+        for (Map.Entry<String, SubwayStation> entry : seen.entrySet()) {
+            SubwayStation station = entry.getValue();
+            station.setContentHash(StationContentHash.of(station));
+
+            SubwayStation current = existingByKey.get(entry.getKey());
+            if (current == null) {
+                delta.inserted.add(station);
+            } else if (Objects.equals(current.getContentHash(), station.getContentHash())) {
+                delta.unchanged++;
+            } else {
+                delta.updated.add(station);
+                delta.previous.add(current);
+            }
+        }
+
+        for (Map.Entry<String, SubwayStation> entry : existingByKey.entrySet()) {
+            if (!seen.containsKey(entry.getKey()) && deletable.test(entry.getValue())) {
+                delta.deleted.add(entry.getValue());
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * 역명 + 지역 + 노선 키 (ux_subway_stations_identity와 동일한 기준)
+     */
+    static String identityKey(SubwayStation station) {
+        return station.getName() + "|" + Objects.toString(station.getRegion(), "")
+                + "|" + Objects.toString(station.getLineNumber(), "");
+    }
+
+    /**
+     * 외부 ID 키, 외부 ID가 없으면 역명 + 지역 + 노선 키 (서울시 API 동기화)
+     * 외부 ID 없는 행도 기존 행과 비교되어 변경이 없으면 건너뜀
+     */
+    static String externalOrIdentityKey(SubwayStation station) {
+        return station.getExternalId() != null
+            ? "external:" + station.getExternalId()
+            : "identity:" + identityKey(station);
+    }
+    
+    /**
+     * 쓰기 대상 (신규 + 갱신)
+     */
+    List<SubwayStation> getChanged() {
+        List<SubwayStation> changed = new ArrayList<>(inserted.size() + updated.size());
+        changed.addAll(inserted);
+        changed.addAll(updated);
+        return changed;
+    }
+
+    /**
+     * 삭제 후보 제외 (수집이 불완전한 것으로 판단될 때)
+     */
+    void skipDeletes() {
+        deleted.clear();
+    }
+
+    boolean isEmpty() {
+        return inserted.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+
+    List<SubwayStation> getInserted() { return inserted; }
+    List<SubwayStation> getUpdated() { return updated; }
+    List<SubwayStation> getPrevious() { return previous; }
+    List<SubwayStation> getDeleted() { return deleted; }
+    int getUnchanged() { return unchanged; }
+
+    @Override
+    public String toString() {
+        return String.format("inserted=%d, updated=%d, unchanged=%d, deleted=%d",
+            inserted.size(), updated.size(), unchanged, deleted.size());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.HangulUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 오타 허용 역명 검색용 BK-tree (불변)
+ * 정규화된 역명의 자모 분해 문자열을 키로 사용하므로 한 음절 오타는 보통 자모 편집 거리 1~2에 해당
+ * 삼각 부등식으로 하위 트리를 가지치기하여 전체 역명과 비교하지 않음
+ */
+final class StationFuzzyIndex {
+
+    private final Node root;
+    private final int keyCount;
+    private final Function<String, List<String>> normalizer;
+
+    private StationFuzzyIndex(Node root, int keyCount, Function<String, List<String>> normalizer) {
+        this.root = root;
+        this.keyCount = keyCount;
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * 색인 구성 (정규화 기본 형태가 같은 역들은 하나의 키로 묶음)
+     */
+    static StationFuzzyIndex build(SubwayStation[] stations, Function<String, List<String>> normalizer) {
+        Map<String, List<SubwayStation>> byKey = new LinkedHashMap<>();
+        for (SubwayStation station : stations) {
+            List<String> forms = normalizer.apply(station.getName());
+            if (!forms.isEmpty()) {
+                byKey.computeIfAbsent(HangulUtils.decompose(forms.get(0)), k -> new ArrayList<>()).add(station);
+            }
+        }
+
+        Node root = null;
+        for (Map.Entry<String, List<SubwayStation>> entry : byKey.entrySet()) {
+            Node node = new Node(entry.getKey(), entry.getValue());
+            if (root == null) {
+                root = node;
+                continue;
+            }
+
+            Node current = root;
+            while (true) {
+                int distance = editDistance(current.key, node.key);
+                Node child = current.children.get(distance);
+                if (child == null) {
+                    current.children.put(distance, node);
+                    break;
+                }
+                current = child;
+            }
+        }
+        return new StationFuzzyIndex(root, byKey.size(), normalizer);
+    }
+
+    int size() {
+        return keyCount;
+    }
+
+    /**
+     * 편집 거리 maxDistance 이내의 역 (거리 → 역명 순)
+     */
+    List<Match> search(String query, int maxDistance) {
+        List<Match> result = new ArrayList<>();
+        List<String> forms = normalizer.apply(query);
+        if (root == null || forms.isEmpty() || maxDistance <= 0) {
+            return result;
+        }
+
+        String target = HangulUtils.decompose(forms.get(0));
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = editDistance(node.key, target);
+            if (distance <= maxDistance) {
+                result.add(new Match(node.stations, distance));
+            }
+
+            // 삼각 부등식: 자식과의 거리가 [d - max, d + max] 범위인 하위 트리만 탐색
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingInt(Match::getDistance)
+            .thenComparing(match -> match.getStations().get(0).getName()));
+        return result;
+    }
+
+    /**
+     * 레벤슈타인 편집 거리
+     */
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * 검색 결과 (같은 정규화 역명의 역 목록 + 편집 거리)
+     */
+    static final class Match {
+        private final List<SubwayStation> stations;
+        private final int distance;
+
+        Match(List<SubwayStation> stations, int distance) {
+            this.stations = stations;
+            this.distance = distance;
+        }
+
+        List<SubwayStation> getStations() { return stations; }
+        int getDistance() { return distance; }
+    }
+
+    private static final class Node {
+        private final String key;
+        private final List<SubwayStation> stations;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String key, List<SubwayStation> stations) {
+            this.key = key;
+            this.stations = stations;
+        }
+    }
+}
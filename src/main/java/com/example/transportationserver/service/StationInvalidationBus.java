@@ -0,0 +1,307 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.service.StationCacheInvalidator.PendingChanges;
+import com.example.transportationserver.service.StationCacheInvalidator.StationChange;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인스턴스 간 역 캐시 무효화 버스 (PostgreSQL LISTEN/NOTIFY)
+ * - 발행: StationCacheInvalidator에 쌓인 변경(역 ID/역명/좌표)을 flush-interval마다 모아 pg_notify로 전송
+ *   (NOTIFY 페이로드 8000바이트 제한에 맞춰 분할, 자기 인스턴스 메시지는 수신 측에서 무시)
+ * - 수신: 전용 연결에서 LISTEN하고, 받은 역에 해당하는 캐시 키만 제거한 뒤
+ *   해당 역 행만 다시 읽어 인메모리 인덱스에 부분 반영 (없어진 역은 인덱스에서 제거)
+ * - 전체 무효화 메시지(대량 변경)나 수신 연결 재접속(그 사이 메시지 유실 가능)일 때만
+ *   역 관련 캐시와 인덱스 전체 재구성, 연달아 오면 마지막 메시지 후 rebuild-debounce-ms 뒤 한 번만 실행
+ */
+@Component
+public class StationInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationInvalidationBus.class);
+
+    private static final int MAX_PAYLOAD_BYTES = 7_500;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StationCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private StationSpatialIndex spatialIndex;
+
+    @Autowired
+    private StationNameIndex nameIndex;
+
+    @Autowired
+    private SubwayStationMapper subwayStationMapper;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.invalidation.channel:station_cache_invalidation}")
+    private String channel;
+
+    @Value("${cache.invalidation.poll-timeout-ms:1000}")
+    private int pollTimeoutMs;
+
+    @Value("${cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${cache.invalidation.rebuild-debounce-ms:2000}")
+    private long rebuildDebounceMs;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+    private final AtomicReference<ScheduledFuture<?>> pendingRebuild = new AtomicReference<>();
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            logger.info("인스턴스 간 캐시 무효화 비활성화");
+            return;
+        }
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("잘못된 NOTIFY 채널 이름: " + channel);
+        }
+
+        cacheInvalidator.enablePropagation();
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "station-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        logger.info("인스턴스 간 캐시 무효화 시작: 채널 {}, 인스턴스 {}", channel, instanceId);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    // === 발행 === //
+
+    /**
+     * 대기 중인 변경을 모아 NOTIFY (짧은 간격으로 묶어 동기화 중 대량 변경도 메시지 몇 개로 전파)
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.flush-interval-ms:200}")
+    public void flush() {
+        if (!running) {
+            return;
+        }
+
+        PendingChanges pending = cacheInvalidator.drainPending();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> payloads = new ArrayList<>();
+        if (pending.overflow) {
+            payloads.add(toPayload(List.of(), true));
+        } else {
+            split(pending.changes, payloads);
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+            logger.debug("캐시 무효화 발행: 역 {}개, 메시지 {}개", pending.changes.size(), payloads.size());
+        } catch (SQLException e) {
+            // 다른 인스턴스는 TTL 만료 또는 다음 변경 때 갱신됨
+            logger.warn("캐시 무효화 발행 실패 (역 {}개): {}", pending.changes.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 페이로드 크기 제한에 맞춰 변경 목록 분할
+     */
+    private void split(List<StationChange> changes, List<String> payloads) {
+        String payload = toPayload(changes, false);
+        if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES || changes.size() <= 1) {
+            payloads.add(payload);
+            return;
+        }
+        int middle = changes.size() / 2;
+        split(changes.subList(0, middle), payloads);
+        split(changes.subList(middle, changes.size()), payloads);
+    }
+
+    private String toPayload(List<StationChange> changes, boolean all) {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("origin", instanceId);
+        message.put("all", all);
+        ArrayNode stations = message.putArray("stations");
+        for (StationChange change : changes) {
+            ArrayNode entry = stations.addArray();
+            entry.add(change.id);
+            entry.add(change.name);
+            entry.add(change.latitude);
+            entry.add(change.longitude);
+        }
+        return message.toString();
+    }
+
+    // === 수신 === //
+
+    private void listenLoop() {
+        boolean reconnected = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                logger.info("캐시 무효화 채널 수신 시작: {}", channel);
+
+                if (reconnected) {
+                    // 연결이 끊긴 동안의 메시지는 복구할 수 없으므로 전체 재구성
+                    scheduleFullRebuild();
+                }
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("캐시 무효화 채널 연결 끊김, {}ms 후 재연결: {}", reconnectDelayMs, e.getMessage());
+                reconnected = true;
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        logger.info("캐시 무효화 채널 수신 종료");
+    }
+
+    private void handle(String payload) {
+        try {
+            JsonNode message = objectMapper.readTree(payload);
+            if (instanceId.equals(message.path("origin").asText())) {
+                return;
+            }
+
+            if (message.path("all").asBoolean(false)) {
+                scheduleFullRebuild();
+                return;
+            }
+
+            JsonNode stations = message.path("stations");
+            Set<Long> stationIds = new LinkedHashSet<>();
+            boolean unidentified = false;
+            for (JsonNode entry : stations) {
+                Long id = entry.get(0).isNull() ? null : entry.get(0).asLong();
+                cacheInvalidator.evictLocally(
+                    id,
+                    entry.get(1).isNull() ? null : entry.get(1).asText(),
+                    entry.get(2).isNull() ? null : entry.get(2).asDouble(),
+                    entry.get(3).isNull() ? null : entry.get(3).asDouble());
+                if (id != null) {
+                    stationIds.add(id);
+                } else {
+                    unidentified = true;
+                }
+            }
+
+            if (unidentified) {
+                // ID 없이 전파된 변경은 인덱스의 어느 항목인지 알 수 없음
+                scheduleFullRebuild();
+            } else {
+                patchIndexes(stationIds);
+            }
+            logger.debug("다른 인스턴스 캐시 무효화 적용: 역 {}개", stations.size());
+
+        } catch (Exception e) {
+            logger.warn("캐시 무효화 메시지 처리 실패, 전체 재구성 예약: {}", e.getMessage());
+            scheduleFullRebuild();
+        }
+    }
+
+    /**
+     * 변경된 역 행만 다시 읽어 인덱스에 반영 (DB에 없는 역은 삭제된 것으로 보고 제거)
+     */
+    private void patchIndexes(Set<Long> stationIds) {
+        if (stationIds.isEmpty()) {
+            return;
+        }
+        List<SubwayStation> rows = subwayStationMapper.findByIds(stationIds);
+        Set<Long> removedIds = new HashSet<>(stationIds);
+        for (SubwayStation row : rows) {
+            removedIds.remove(row.getId());
+        }
+        spatialIndex.patch(rows, removedIds);
+        nameIndex.patch(rows, removedIds);
+    }
+
+    /**
+     * 역 관련 캐시 + 인덱스 전체 재구성 예약 (연속 요청은 마지막 요청 기준으로 한 번만 실행)
+     */
+    private void scheduleFullRebuild() {
+        ScheduledFuture<?> next = taskScheduler.schedule(this::rebuildAll, Instant.now().plusMillis(rebuildDebounceMs));
+        ScheduledFuture<?> previous = pendingRebuild.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void rebuildAll() {
+        cacheInvalidator.evictAllLocally();
+        spatialIndex.invalidate();
+        nameIndex.invalidate();
+        logger.info("다른 인스턴스 대량 변경 반영: 역 관련 캐시/인덱스 전체 재구성");
+    }
+}
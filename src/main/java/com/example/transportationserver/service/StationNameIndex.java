@@ -0,0 +1,473 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.dto.StationSuggestionResponse;
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.util.DataMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지하철역 이름 인메모리 검색 인덱스
+ * 접두사 검색은 트라이(trie), 부분 문자열 검색은 문자 바이그램(bigram) 색인으로 후보를 좁힌 뒤
+ * SubwayStationMapper의 스마트 검색과 동일한 100/90/80/60 점수로 정렬
+ * 자동완성용 자모/초성 색인(StationTypeahead)과 오타 허용 검색용 BK-tree(StationFuzzyIndex)도
+ * 같은 스냅샷에 함께 구성
+ */
+@Component
+public class StationNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationNameIndex.class);
+
+    public static final int SCORE_EXACT = 100;      // 정확한 매칭 (예: "강남" -> "강남")
+    public static final int SCORE_WITH_SUFFIX = 90; // 역명 매칭 (예: "강남" -> "강남역")
+    public static final int SCORE_PREFIX = 80;      // 시작 매칭 (예: "강남" -> "강남구청역")
+    public static final int SCORE_INFIX = 60;       // 부분 매칭 (예: "강남" -> "신강남역")
+
+    // 검색 결과 정렬: 점수 내림차순 → 역명 → 노선 (DB 정렬 순서와 동일하게 null은 마지막)
+    private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private static final int[] EMPTY = new int[0];
+
+    @Autowired
+    private SubwayStationMapper subwayStationMapper;
+
+    @Autowired
+    private StationNameResolver nameResolver;
+
+    @Value("${station.name-index.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    private volatile Snapshot snapshot;
+    private final AtomicLong generation = new AtomicLong(0);
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 역명에 검색어가 포함된 역 (findByName과 동일, 역명순)
+     */
+    public List<SubwayStation> findByName(String term) {
+        Snapshot current = currentSnapshot();
+        List<SubwayStation> result = new ArrayList<>();
+        if (term == null || term.isEmpty()) {
+            return term == null ? result : new ArrayList<>(Arrays.asList(current.stations));
+        }
+
+        for (int i : current.containing(term)) {
+            result.add(current.stations[i]);
+        }
+        result.sort(Comparator.comparing(SubwayStation::getName, NULLS_LAST));
+        return result;
+    }
+
+    /**
+     * 정확 매칭 + "역" 추가 매칭만 반환 (findByHighPrioritySearch와 동일)
+     */
+    public List<SubwayStation> findByHighPrioritySearch(String term) {
+        Snapshot current = currentSnapshot();
+        List<ScoredStation> scored = new ArrayList<>();
+        if (term == null) {
+            return new ArrayList<>();
+        }
+
+        for (int i : current.exact.getOrDefault(term, EMPTY)) {
+            scored.add(new ScoredStation(current.stations[i], SCORE_EXACT));
+        }
+        for (int i : current.exact.getOrDefault(term + "역", EMPTY)) {
+            scored.add(new ScoredStation(current.stations[i], SCORE_WITH_SUFFIX));
+        }
+
+        scored.sort(Comparator.comparingInt(ScoredStation::getScore).reversed()
+            .thenComparing(scoredStation -> scoredStation.getStation().getLineNumber(), NULLS_LAST));
+        return toStations(scored);
+    }
+
+    /**
+     * 점수 기반 스마트 검색 (findBySmartSearch와 동일)
+     */
+    public List<SubwayStation> findBySmartSearch(String term) {
+        Snapshot current = currentSnapshot();
+        if (term == null || term.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String withSuffix = term + "역";
+        boolean[] seen = new boolean[current.stations.length];
+        List<ScoredStation> scored = new ArrayList<>();
+
+        // 접두사 후보 (트라이) - 100/90/80점은 모두 접두사 매칭에 포함됨
+        for (int i : current.prefixed(term)) {
+            seen[i] = true;
+            String name = current.names[i];
+            int score = name.equals(term) ? SCORE_EXACT : name.equals(withSuffix) ? SCORE_WITH_SUFFIX : SCORE_PREFIX;
+            scored.add(new ScoredStation(current.stations[i], score));
+        }
+
+        // 부분 문자열 후보 (바이그램)
+        for (int i : current.containing(term)) {
+            if (!seen[i]) {
+                scored.add(new ScoredStation(current.stations[i], SCORE_INFIX));
+            }
+        }
+
+        scored.sort(Comparator.comparingInt(ScoredStation::getScore).reversed()
+            .thenComparing(scoredStation -> scoredStation.getStation().getName(), NULLS_LAST)
+            .thenComparing(scoredStation -> scoredStation.getStation().getLineNumber(), NULLS_LAST));
+        return toStations(scored);
+    }
+
+    /**
+     * 초성/자모 기반 자동완성 상위 k개 (역명 단위로 묶어서 반환)
+     */
+    public List<StationSuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return currentSnapshot().typeahead.suggest(query, limit);
+    }
+
+    /**
+     * 오타 허용 검색: 자모 편집 거리 maxDistance 이내의 역 (거리순)
+     */
+    List<StationFuzzyIndex.Match> findFuzzy(String term, int maxDistance) {
+        if (term == null || term.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return currentSnapshot().fuzzy.search(term, maxDistance);
+    }
+
+    /**
+     * 검색 형태 정규화: 기본 형태(StationNameResolver 정제 + 공백 제거)와
+     * DataMapper 정규화를 추가로 적용한 보조 형태
+     */
+    private List<String> searchForms(String text) {
+        List<String> forms = new ArrayList<>(2);
+        String trimmed = text.trim();
+        String primary = nameResolver.cleanStationName(trimmed).replace(" ", "").toLowerCase();
+        if (primary.isEmpty()) {
+            primary = trimmed.replace(" ", "").toLowerCase(); // "역"만 입력한 경우 등
+        }
+        if (primary.isEmpty()) {
+            return forms;
+        }
+        forms.add(primary);
+
+        String secondary = DataMapper.normalizeStationName(primary);
+        if (secondary != null && !secondary.isEmpty() && !secondary.equals(primary)) {
+            forms.add(secondary);
+        }
+        return forms;
+    }
+
+    /**
+     * 주어진 역 목록으로 즉시 재구성 (스냅샷 파일 웜 스타트, DB 재조회 없이 교체)
+     */
+    public void load(List<SubwayStation> stations) {
+        synchronized (rebuildLock) {
+            generation.incrementAndGet();
+            snapshot = build(stations, System.currentTimeMillis());
+            logBuilt(snapshot);
+        }
+    }
+
+    /**
+     * 변경된 역만 현재 스냅샷에 반영 (DB 재조회 없이 메모리의 역 목록으로 교체)
+     * - 역명/노선/별칭이 그대로인 역은 같은 위치에서 객체만 교체 (트라이/바이그램/자동완성 색인 재사용)
+     * - 역명 변경/추가/삭제가 있으면 메모리의 역 목록으로 색인 재구성
+     * 아직 구성되지 않은 스냅샷은 다음 조회 때 DB에서 구성되므로 반영하지 않음
+     * @param changed 변경 후 역
+     * @param removedIds 삭제된 역 ID
+     */
+    public void patch(Collection<SubwayStation> changed, Collection<Long> removedIds) {
+        synchronized (rebuildLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            long startGeneration = generation.get();
+
+            Map<Long, SubwayStation> replacements = new HashMap<>();
+            for (SubwayStation station : changed) {
+                replacements.put(station.getId(), station);
+            }
+            Set<Long> removed = new HashSet<>(removedIds);
+
+            SubwayStation[] stations = current.stations.clone();
+            List<SubwayStation> remaining = new ArrayList<>(stations.length + replacements.size());
+            boolean reindex = false;
+            for (int i = 0; i < stations.length; i++) {
+                Long id = stations[i].getId();
+                if (removed.contains(id)) {
+                    reindex = true;
+                    continue;
+                }
+                SubwayStation replacement = replacements.remove(id);
+                if (replacement != null) {
+                    reindex |= !sameIndexedFields(stations[i], replacement);
+                    stations[i] = replacement;
+                }
+                remaining.add(stations[i]);
+            }
+            // 색인에 없던 역
+            if (!replacements.isEmpty()) {
+                remaining.addAll(replacements.values());
+                reindex = true;
+            }
+
+            // 만료 시각은 원래 구성 시각 기준으로 유지 (누락된 변경은 max-age 재구성으로 복구)
+            // 오타 허용 색인은 역 객체를 직접 보관하므로 객체만 교체하는 경우에도 다시 구성
+            Snapshot patched = reindex
+                ? build(remaining, current.builtAt)
+                : new Snapshot(stations, current.names, current.root, current.exact, current.unigrams,
+                    current.bigrams, current.typeahead, StationFuzzyIndex.build(stations, this::searchForms),
+                    current.builtAt);
+
+            // 패치 도중 무효화되었다면 반영하지 않음
+            if (generation.get() == startGeneration) {
+                snapshot = patched;
+            }
+            logger.debug("역명 인덱스 부분 반영: 변경 {}개, 삭제 {}개, 재색인 {}", changed.size(), removed.size(), reindex);
+        }
+    }
+
+    /**
+     * 색인 구성에 쓰이는 값(역명, 노선, 별칭)이 같은지
+     */
+    private static boolean sameIndexedFields(SubwayStation indexed, SubwayStation replacement) {
+        return Objects.equals(indexed.getName(), replacement.getName())
+            && Objects.equals(indexed.getLineNumber(), replacement.getLineNumber())
+            && Objects.equals(indexed.getAliases(), replacement.getAliases());
+    }
+
+    /**
+     * 인덱스 무효화 (다음 조회 시 DB에서 재구성)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        logger.debug("역명 인덱스 무효화");
+    }
+
+    /**
+     * 인덱싱된 역 개수
+     */
+    public int size() {
+        return currentSnapshot().stations.length;
+    }
+
+    private List<SubwayStation> toStations(List<ScoredStation> scored) {
+        List<SubwayStation> result = new ArrayList<>(scored.size());
+        for (ScoredStation scoredStation : scored) {
+            result.add(scoredStation.getStation());
+        }
+        return result;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(maxAgeMinutes)) {
+            return current;
+        }
+
+        synchronized (rebuildLock) {
+            current = snapshot;
+            if (current != null && !current.isExpired(maxAgeMinutes)) {
+                return current;
+            }
+
+            long startGeneration = generation.get();
+            current = build(subwayStationMapper.findAll(), System.currentTimeMillis());
+            logBuilt(current);
+
+            // 재구성 도중 무효화되었다면 이번 결과는 캐싱하지 않음
+            if (generation.get() == startGeneration) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private Snapshot build(List<SubwayStation> allStations, long builtAt) {
+        List<SubwayStation> named = new ArrayList<>();
+        for (SubwayStation station : allStations) {
+            if (station.getName() != null && !station.getName().isEmpty()) {
+                named.add(station);
+            }
+        }
+
+        SubwayStation[] stations = named.toArray(new SubwayStation[0]);
+        String[] names = new String[stations.length];
+        TrieNode root = new TrieNode();
+        Map<String, List<Integer>> exact = new HashMap<>();
+        Map<Character, List<Integer>> unigrams = new HashMap<>();
+        Map<String, List<Integer>> bigrams = new HashMap<>();
+
+        for (int i = 0; i < stations.length; i++) {
+            String name = stations[i].getName();
+            names[i] = name;
+            exact.computeIfAbsent(name, k -> new ArrayList<>()).add(i);
+
+            // 트라이: 경로상의 모든 노드에 역 번호 기록 (접두사 조회 시 하위 탐색 불필요)
+            TrieNode node = root;
+            for (int c = 0; c < name.length(); c++) {
+                node = node.children.computeIfAbsent(name.charAt(c), k -> new TrieNode());
+                node.building.add(i);
+            }
+
+            // 문자/바이그램 색인 (역 번호 오름차순, 중복 없음)
+            for (int c = 0; c < name.length(); c++) {
+                addPosting(unigrams.computeIfAbsent(name.charAt(c), k -> new ArrayList<>()), i);
+                if (c + 1 < name.length()) {
+                    addPosting(bigrams.computeIfAbsent(name.substring(c, c + 2), k -> new ArrayList<>()), i);
+                }
+            }
+        }
+
+        root.freeze();
+        StationTypeahead typeahead = StationTypeahead.build(stations, this::searchForms);
+        StationFuzzyIndex fuzzy = StationFuzzyIndex.build(stations, this::searchForms);
+        return new Snapshot(stations, names, root, toArrays(exact), toArrays(unigrams), toArrays(bigrams),
+            typeahead, fuzzy, builtAt);
+    }
+
+    private void logBuilt(Snapshot built) {
+        logger.info("역명 인덱스 구성 완료: {}개 역, 바이그램 {}개, 자동완성 {}개 역명, 퍼지 {}개 키, {}ms",
+            built.stations.length, built.bigrams.size(), built.typeahead.size(), built.fuzzy.size(),
+            System.currentTimeMillis() - built.builtAt);
+    }
+
+    private static void addPosting(List<Integer> postings, int index) {
+        if (postings.isEmpty() || postings.get(postings.size() - 1) != index) {
+            postings.add(index);
+        }
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> source) {
+        Map<K, int[]> result = new HashMap<>(source.size() * 2);
+        for (Map.Entry<K, List<Integer>> entry : source.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return result;
+    }
+
+    /**
+     * 트라이 노드 (해당 접두사를 가진 역 번호 목록 보관)
+     */
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private List<Integer> building = new ArrayList<>();
+        private int[] stations = EMPTY;
+
+        void freeze() {
+            stations = building.stream().mapToInt(Integer::intValue).toArray();
+            building = null;
+            for (TrieNode child : children.values()) {
+                child.freeze();
+            }
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     */
+    private static final class Snapshot {
+        private final SubwayStation[] stations;
+        private final String[] names;
+        private final TrieNode root;
+        private final Map<String, int[]> exact;
+        private final Map<Character, int[]> unigrams;
+        private final Map<String, int[]> bigrams;
+        private final StationTypeahead typeahead;
+        private final StationFuzzyIndex fuzzy;
+        private final long builtAt;
+
+        Snapshot(SubwayStation[] stations, String[] names, TrieNode root, Map<String, int[]> exact,
+                 Map<Character, int[]> unigrams, Map<String, int[]> bigrams, StationTypeahead typeahead,
+                 StationFuzzyIndex fuzzy, long builtAt) {
+            this.stations = stations;
+            this.names = names;
+            this.root = root;
+            this.exact = exact;
+            this.unigrams = unigrams;
+            this.bigrams = bigrams;
+            this.typeahead = typeahead;
+            this.fuzzy = fuzzy;
+            this.builtAt = builtAt;
+        }
+
+        boolean isExpired(long maxAgeMinutes) {
+            return System.currentTimeMillis() - builtAt > maxAgeMinutes * 60_000L;
+        }
+
+        /**
+         * 검색어로 시작하는 역 번호
+         */
+        int[] prefixed(String term) {
+            TrieNode node = root;
+            for (int c = 0; c < term.length() && node != null; c++) {
+                node = node.children.get(term.charAt(c));
+            }
+            return node != null ? node.stations : EMPTY;
+        }
+
+        /**
+         * 검색어를 포함하는 역 번호 (바이그램 목록 교집합 후 실제 포함 여부 확인)
+         */
+        int[] containing(String term) {
+            if (term.length() == 1) {
+                return unigrams.getOrDefault(term.charAt(0), EMPTY);
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지 바이그램 포함 여부를 확인
+            int[] shortest = null;
+            for (int c = 0; c + 1 < term.length(); c++) {
+                int[] postings = bigrams.get(term.substring(c, c + 2));
+                if (postings == null) {
+                    return EMPTY;
+                }
+                if (shortest == null || postings.length < shortest.length) {
+                    shortest = postings;
+                }
+            }
+
+            int[] matches = new int[shortest.length];
+            int count = 0;
+            for (int i : shortest) {
+                if (names[i].contains(term)) {
+                    matches[count++] = i;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        }
+    }
+
+    /**
+     * 점수가 매겨진 검색 결과
+     */
+    private static final class ScoredStation {
+        private final SubwayStation station;
+        private final int score;
+
+        ScoredStation(SubwayStation station, int score) {
+            this.station = station;
+            this.score = score;
+        }
+
+        SubwayStation getStation() { return station; }
+        int getScore() { return score; }
+    }
+}
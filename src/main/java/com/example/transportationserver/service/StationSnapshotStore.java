@@ -0,0 +1,275 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * 역 테이블 바이너리 스냅샷 파일 (웜 스타트용, 원본은 항상 DB)
+ * - 동기화가 성공할 때마다 전체 역 목록을 기록하고, 시작 시 메모리 매핑으로 읽어 DB 연결 전에 인메모리 인덱스를 구성
+ * - 헤더: magic(4) + 포맷 버전(4) + 데이터 버전(8, 기록 시각 ms) + 역 수(4) + 본문 길이(4) + CRC32C(8)
+ * - 본문: 역마다 플래그(1) + id(8) + 위도(8) + 경도(8) + 문자열 필드 (길이(4, -1은 null) + UTF-8)
+ * - 임시 파일에 쓴 뒤 원자적으로 교체하므로 읽는 쪽은 완전한 파일만 보며, 헤더나 체크섬이 맞지 않으면 무시
+ * 생성/수정 시각과 일정·출구 같은 연관 정보는 인덱스에 필요 없으므로 저장하지 않음
+ */
+@Component
+public class StationSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationSnapshotStore.class);
+
+    private static final int MAGIC = 0x53544E53; // "STNS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int FLAG_ID = 1;
+    private static final int FLAG_LATITUDE = 1 << 1;
+    private static final int FLAG_LONGITUDE = 1 << 2;
+    private static final int FLAG_HAS_COORDINATES_SET = 1 << 3;
+    private static final int FLAG_HAS_COORDINATES = 1 << 4;
+
+    @Autowired
+    private SubwayStationMapper stationMapper;
+
+    @Value("${station.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${station.snapshot.path:data/stations.snapshot}")
+    private String path;
+
+    /**
+     * DB의 현재 역 목록으로 스냅샷 갱신 (동기화 성공 후 호출, 실패해도 동기화 결과에는 영향 없음)
+     */
+    public void refreshFromDatabase() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            write(stationMapper.findAll());
+        } catch (Exception e) {
+            logger.warn("역 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 역 목록 기록 (임시 파일 → 원자적 교체)
+     */
+    public void write(List<SubwayStation> stations) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(stations.size() * 256);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        for (SubwayStation station : stations) {
+            writeStation(payload, station);
+        }
+        payload.flush();
+        byte[] body = payloadBytes.toByteArray();
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(body, 0, body.length);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+            .putInt(FORMAT_VERSION)
+            .putLong(startTime)
+            .putInt(stations.size())
+            .putInt(body.length)
+            .putLong(checksum.getValue())
+            .flip();
+
+        Path target = Paths.get(path).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer data = ByteBuffer.wrap(body);
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        logger.info("역 스냅샷 기록: {}개 역, {}바이트, 버전 {}, {}ms",
+            stations.size(), HEADER_SIZE + body.length, startTime, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 스냅샷 읽기 (파일이 없거나 버전/체크섬이 맞지 않으면 empty)
+     */
+    public Optional<Snapshot> read() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path target = Paths.get(path).toAbsolutePath();
+        if (!Files.isRegularFile(target)) {
+            logger.info("역 스냅샷 파일 없음: {}", target);
+            return Optional.empty();
+        }
+
+        long startTime = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                logger.warn("역 스냅샷 무시: 파일 크기 부족 ({}바이트)", size);
+                return Optional.empty();
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int magic = buffer.getInt();
+            int formatVersion = buffer.getInt();
+            long version = buffer.getLong();
+            int count = buffer.getInt();
+            int payloadLength = buffer.getInt();
+            long expectedChecksum = buffer.getLong();
+
+            if (magic != MAGIC || formatVersion != FORMAT_VERSION) {
+                logger.warn("역 스냅샷 무시: 지원하지 않는 형식 (magic={}, format={})",
+                    Integer.toHexString(magic), formatVersion);
+                return Optional.empty();
+            }
+            if (count < 0 || payloadLength < 0 || HEADER_SIZE + (long) payloadLength != size) {
+                logger.warn("역 스냅샷 무시: 길이 불일치 (본문 {}바이트, 파일 {}바이트)", payloadLength, size);
+                return Optional.empty();
+            }
+
+            CRC32C checksum = new CRC32C();
+            checksum.update(buffer.slice());
+            if (checksum.getValue() != expectedChecksum) {
+                logger.warn("역 스냅샷 무시: 체크섬 불일치");
+                return Optional.empty();
+            }
+
+            List<SubwayStation> stations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stations.add(readStation(buffer));
+            }
+
+            logger.info("역 스냅샷 로드: {}개 역, 버전 {}, {}ms", count, version, System.currentTimeMillis() - startTime);
+            return Optional.of(new Snapshot(stations, version));
+
+        } catch (IOException | RuntimeException e) {
+            logger.warn("역 스냅샷 읽기 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeStation(DataOutputStream out, SubwayStation station) throws IOException {
+        int flags = 0;
+        if (station.getId() != null) flags |= FLAG_ID;
+        if (station.getLatitude() != null) flags |= FLAG_LATITUDE;
+        if (station.getLongitude() != null) flags |= FLAG_LONGITUDE;
+        if (station.getHasCoordinates() != null) {
+            flags |= FLAG_HAS_COORDINATES_SET;
+            if (station.getHasCoordinates()) flags |= FLAG_HAS_COORDINATES;
+        }
+
+        out.writeByte(flags);
+        out.writeLong(station.getId() != null ? station.getId() : 0L);
+        out.writeDouble(station.getLatitude() != null ? station.getLatitude() : 0.0);
+        out.writeDouble(station.getLongitude() != null ? station.getLongitude() : 0.0);
+        writeString(out, station.getName());
+        writeString(out, station.getLineNumber());
+        writeString(out, station.getStationCode());
+        writeString(out, station.getAddress());
+        writeString(out, station.getExternalId());
+        writeString(out, station.getSubwayStationId());
+        writeString(out, station.getRegion());
+        writeString(out, station.getCity());
+        writeString(out, station.getFullName());
+        writeString(out, station.getAliases());
+        writeString(out, station.getDataSource());
+        writeString(out, station.getContentHash());
+    }
+
+    private SubwayStation readStation(ByteBuffer buffer) {
+        int flags = buffer.get();
+        long id = buffer.getLong();
+        double latitude = buffer.getDouble();
+        double longitude = buffer.getDouble();
+
+        SubwayStation station = new SubwayStation();
+        station.setId((flags & FLAG_ID) != 0 ? id : null);
+        station.setLatitude((flags & FLAG_LATITUDE) != 0 ? latitude : null);
+        station.setLongitude((flags & FLAG_LONGITUDE) != 0 ? longitude : null);
+        station.setHasCoordinates((flags & FLAG_HAS_COORDINATES_SET) != 0 ? (flags & FLAG_HAS_COORDINATES) != 0 : null);
+        station.setName(readString(buffer));
+        station.setLineNumber(readString(buffer));
+        station.setStationCode(readString(buffer));
+        station.setAddress(readString(buffer));
+        station.setExternalId(readString(buffer));
+        station.setSubwayStationId(readString(buffer));
+        station.setRegion(readString(buffer));
+        station.setCity(readString(buffer));
+        station.setFullName(readString(buffer));
+        station.setAliases(readString(buffer));
+        station.setDataSource(readString(buffer));
+        station.setContentHash(readString(buffer));
+        return station;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 읽어 온 스냅샷 (역 목록 + 데이터 버전)
+     */
+    public static class Snapshot {
+        private final List<SubwayStation> stations;
+        private final long version;
+
+        public Snapshot(List<SubwayStation> stations, long version) {
+            this.stations = stations;
+            this.version = version;
+        }
+
+        public List<SubwayStation> getStations() { return stations; }
+        public long getVersion() { return version; }
+    }
+}
@@ -0,0 +1,429 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.repository.SubwayStationMapper;
+import com.example.transportationserver.util.CoordinateValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 지하철역 좌표 기반 인메모리 공간 인덱스
+ * 균일한 위경도 격자(grid)에 역을 배치하여 반경 검색 시 DB 조회 없이 인접 셀만 탐색
+ */
+@Component
+public class StationSpatialIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StationSpatialIndex.class);
+
+    private static final double MIN_KM_PER_DEGREE = 111.19 * 0.99; // 하한/검색 범위 계산용 (지구 반지름 6371km 기준, 여유 1%)
+    private static final int MAX_CELLS = 4_000_000; // 격자 배열 크기 상한 (메모리 보호)
+
+    @Autowired
+    private SubwayStationMapper subwayStationMapper;
+
+    @Value("${station.spatial-index.cell-degrees:0.01}")
+    private double cellDegrees;
+
+    @Value("${station.spatial-index.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    private volatile Grid grid;
+    private final AtomicLong generation = new AtomicLong(0);
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 중심 좌표로부터 반경 내의 역을 거리순으로 반환
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        return searchRadius(currentGrid(), latitude, longitude, radiusKm, limit);
+    }
+
+    /**
+     * 여러 중심 좌표에 대한 반경 검색을 하나의 격자 스냅샷에서 병렬로 수행
+     * 결과 목록의 순서는 입력 좌표 순서와 동일
+     */
+    public List<List<Neighbor>> findWithinRadiusBatch(double[] latitudes, double[] longitudes, double radiusKm, int limit) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다");
+        }
+        Grid current = currentGrid();
+        return IntStream.range(0, latitudes.length)
+            .parallel()
+            .mapToObj(i -> searchRadius(current, latitudes[i], longitudes[i], radiusKm, limit))
+            .collect(Collectors.toList());
+    }
+
+    private static List<Neighbor> searchRadius(Grid current, double latitude, double longitude, double radiusKm, int limit) {
+        List<Neighbor> result = new ArrayList<>();
+        if (current.isEmpty() || radiusKm <= 0 || limit <= 0) {
+            return result;
+        }
+
+        // 거리 계산(반지름 6371km)보다 작은 도당 거리와 극 쪽 가장자리의 코사인으로 잡아 반경 원 전체를 포함
+        double latSpan = radiusKm / MIN_KM_PER_DEGREE;
+        double polewardLat = Math.abs(latitude) + latSpan;
+        double lonSpan = polewardLat >= 90.0 ? 360.0
+            : radiusKm / (MIN_KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(polewardLat)), 0.01));
+
+        int rowFrom = Math.max(current.rowOf(latitude - latSpan), 0);
+        int rowTo = Math.min(current.rowOf(latitude + latSpan), current.rows - 1);
+        int colFrom = Math.max(current.colOf(longitude - lonSpan), 0);
+        int colTo = Math.min(current.colOf(longitude + lonSpan), current.cols - 1);
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                int cell = row * current.cols + col;
+                for (int i = current.cellStart[cell]; i < current.cellStart[cell + 1]; i++) {
+                    double distance = CoordinateValidator.calculateDistance(
+                        latitude, longitude, current.latitudes[i], current.longitudes[i]);
+                    if (distance <= radiusKm) {
+                        result.add(new Neighbor(current.stations[i], distance));
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Neighbor::getDistanceKm));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * 중심 좌표에서 가장 가까운 k개 역을 거리순으로 반환 (반경 제한 없음)
+     * 중심 셀부터 고리(ring) 단위로 확장하며, 다음 고리까지의 최소 거리가
+     * 현재 k번째 거리보다 멀어지면 탐색을 종료
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k) {
+        Grid current = currentGrid();
+        List<Neighbor> result = new ArrayList<>();
+        if (current.isEmpty() || k <= 0) {
+            return result;
+        }
+
+        // k개를 유지하는 최대 힙 (가장 먼 후보가 head)
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(
+            Comparator.comparingDouble(Neighbor::getDistanceKm).reversed());
+
+        int centerRow = current.rowOf(latitude);
+        int centerCol = current.colOf(longitude);
+
+        // 격자 밖의 좌표라면 격자에 처음 닿는 고리부터 시작
+        int startRing = Math.max(
+            Math.max(-centerRow, centerRow - (current.rows - 1)),
+            Math.max(-centerCol, centerCol - (current.cols - 1)));
+        startRing = Math.max(startRing, 0);
+        int maxRing = Math.max(
+            Math.max(centerRow, current.rows - 1 - centerRow),
+            Math.max(centerCol, current.cols - 1 - centerCol));
+
+        double kmPerDegreeLon = MIN_KM_PER_DEGREE
+            * Math.cos(Math.toRadians(Math.max(current.maxAbsLatitude(), Math.abs(latitude))));
+        double cellLatFrom = current.minLat + centerRow * current.cellDegrees;
+        double cellLonFrom = current.minLon + centerCol * current.cellDegrees;
+
+        for (int ring = startRing; ring <= maxRing; ring++) {
+            if (best.size() == k && ring > 0) {
+                // 고리 ring의 셀은 중심 셀에서 (ring - 1)칸 확장한 영역 밖에 있으므로 그 경계까지의 거리가 하한
+                double latGap = Math.min(
+                    latitude - (cellLatFrom - (ring - 1) * current.cellDegrees),
+                    (cellLatFrom + ring * current.cellDegrees) - latitude);
+                double lonGap = Math.min(
+                    longitude - (cellLonFrom - (ring - 1) * current.cellDegrees),
+                    (cellLonFrom + ring * current.cellDegrees) - longitude);
+                double lowerBoundKm = Math.min(latGap * MIN_KM_PER_DEGREE, lonGap * kmPerDegreeLon);
+                if (lowerBoundKm > best.peek().getDistanceKm()) {
+                    break;
+                }
+            }
+
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= current.rows) {
+                    continue;
+                }
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(2 * ring, 1);
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    if (col < 0 || col >= current.cols) {
+                        continue;
+                    }
+                    int cell = row * current.cols + col;
+                    for (int i = current.cellStart[cell]; i < current.cellStart[cell + 1]; i++) {
+                        double distance = CoordinateValidator.calculateDistance(
+                            latitude, longitude, current.latitudes[i], current.longitudes[i]);
+                        if (best.size() < k) {
+                            best.add(new Neighbor(current.stations[i], distance));
+                        } else if (distance < best.peek().getDistanceKm()) {
+                            best.poll();
+                            best.add(new Neighbor(current.stations[i], distance));
+                        }
+                    }
+                }
+            }
+        }
+
+        result.addAll(best);
+        result.sort(Comparator.comparingDouble(Neighbor::getDistanceKm));
+        return result;
+    }
+
+    /**
+     * 주어진 역 목록으로 즉시 재구성 (스냅샷 파일 웜 스타트, DB 재조회 없이 교체)
+     */
+    public void load(List<SubwayStation> stations) {
+        synchronized (rebuildLock) {
+            generation.incrementAndGet();
+            grid = build(stations, System.currentTimeMillis());
+            logBuilt(grid);
+        }
+    }
+
+    /**
+     * 변경된 역만 현재 격자에 반영 (DB 재조회 없이 메모리의 역 목록으로 교체)
+     * - 좌표가 그대로인 역은 같은 위치에서 객체만 교체
+     * - 좌표 변경/추가/삭제가 있으면 메모리의 역 목록으로 격자 재배치
+     * 아직 구성되지 않은 격자는 다음 조회 때 DB에서 구성되므로 반영하지 않음
+     * @param changed 변경 후 역 (좌표가 없으면 인덱스에서 제외)
+     * @param removedIds 삭제된 역 ID
+     */
+    public void patch(Collection<SubwayStation> changed, Collection<Long> removedIds) {
+        synchronized (rebuildLock) {
+            Grid current = grid;
+            if (current == null) {
+                return;
+            }
+            long startGeneration = generation.get();
+
+            Map<Long, SubwayStation> replacements = new HashMap<>();
+            for (SubwayStation station : changed) {
+                replacements.put(station.getId(), station);
+            }
+            Set<Long> removed = new HashSet<>(removedIds);
+
+            SubwayStation[] stations = current.stations.clone();
+            List<SubwayStation> remaining = new ArrayList<>(stations.length + replacements.size());
+            boolean relocate = false;
+            for (int i = 0; i < stations.length; i++) {
+                Long id = stations[i].getId();
+                if (removed.contains(id)) {
+                    relocate = true;
+                    continue;
+                }
+                SubwayStation replacement = replacements.remove(id);
+                if (replacement != null) {
+                    relocate |= !Double.valueOf(current.latitudes[i]).equals(replacement.getLatitude())
+                        || !Double.valueOf(current.longitudes[i]).equals(replacement.getLongitude());
+                    stations[i] = replacement;
+                }
+                remaining.add(stations[i]);
+            }
+            // 격자에 없던 역 (새 역이거나 좌표가 새로 생긴 역)
+            for (SubwayStation added : replacements.values()) {
+                if (!CoordinateValidator.isCoordinateEmpty(added.getLatitude(), added.getLongitude())) {
+                    remaining.add(added);
+                    relocate = true;
+                }
+            }
+
+            // 만료 시각은 원래 구성 시각 기준으로 유지 (누락된 변경은 max-age 재구성으로 복구)
+            Grid patched = relocate
+                ? build(remaining, current.builtAt)
+                : new Grid(current.minLat, current.minLon, current.cellDegrees, current.rows, current.cols,
+                    current.cellStart, stations, current.latitudes, current.longitudes, current.builtAt);
+
+            // 패치 도중 무효화되었다면 반영하지 않음
+            if (generation.get() == startGeneration) {
+                grid = patched;
+            }
+            logger.debug("공간 인덱스 부분 반영: 변경 {}개, 삭제 {}개, 재배치 {}", changed.size(), removed.size(), relocate);
+        }
+    }
+
+    /**
+     * 인덱스 무효화 (다음 조회 시 DB에서 재구성)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        grid = null;
+        logger.debug("공간 인덱스 무효화");
+    }
+
+    /**
+     * 인덱싱된 역 개수
+     */
+    public int size() {
+        return currentGrid().stations.length;
+    }
+
+    private Grid currentGrid() {
+        Grid current = grid;
+        if (current != null && !current.isExpired(maxAgeMinutes)) {
+            return current;
+        }
+
+        synchronized (rebuildLock) {
+            current = grid;
+            if (current != null && !current.isExpired(maxAgeMinutes)) {
+                return current;
+            }
+
+            long startGeneration = generation.get();
+            current = build(subwayStationMapper.findAll(), System.currentTimeMillis());
+            logBuilt(current);
+
+            // 재구성 도중 무효화되었다면 이번 결과는 캐싱하지 않음
+            if (generation.get() == startGeneration) {
+                grid = current;
+            }
+            return current;
+        }
+    }
+
+    private Grid build(List<SubwayStation> allStations, long builtAt) {
+        List<SubwayStation> stations = new ArrayList<>();
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+
+        for (SubwayStation station : allStations) {
+            if (CoordinateValidator.isCoordinateEmpty(station.getLatitude(), station.getLongitude())) {
+                continue;
+            }
+            stations.add(station);
+            minLat = Math.min(minLat, station.getLatitude());
+            maxLat = Math.max(maxLat, station.getLatitude());
+            minLon = Math.min(minLon, station.getLongitude());
+            maxLon = Math.max(maxLon, station.getLongitude());
+        }
+
+        if (stations.isEmpty()) {
+            return new Grid(0, 0, cellDegrees, 0, 0, new int[1], new SubwayStation[0], new double[0], new double[0],
+                builtAt);
+        }
+
+        double cell = cellDegrees;
+        int rows = (int) Math.floor((maxLat - minLat) / cell) + 1;
+        int cols = (int) Math.floor((maxLon - minLon) / cell) + 1;
+        while ((long) rows * cols > MAX_CELLS) {
+            cell *= 2;
+            rows = (int) Math.floor((maxLat - minLat) / cell) + 1;
+            cols = (int) Math.floor((maxLon - minLon) / cell) + 1;
+        }
+
+        // 셀별 개수 집계 후 누적합으로 시작 위치 계산 (CSR 배열)
+        int[] cellOf = new int[stations.size()];
+        int[] cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < stations.size(); i++) {
+            SubwayStation station = stations.get(i);
+            int row = (int) Math.floor((station.getLatitude() - minLat) / cell);
+            int col = (int) Math.floor((station.getLongitude() - minLon) / cell);
+            cellOf[i] = row * cols + col;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < rows * cols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        SubwayStation[] sorted = new SubwayStation[stations.size()];
+        double[] latitudes = new double[stations.size()];
+        double[] longitudes = new double[stations.size()];
+        int[] cursor = new int[rows * cols];
+        for (int i = 0; i < stations.size(); i++) {
+            int position = cellStart[cellOf[i]] + cursor[cellOf[i]]++;
+            sorted[position] = stations.get(i);
+            latitudes[position] = stations.get(i).getLatitude();
+            longitudes[position] = stations.get(i).getLongitude();
+        }
+
+        return new Grid(minLat, minLon, cell, rows, cols, cellStart, sorted, latitudes, longitudes, builtAt);
+    }
+
+    private void logBuilt(Grid built) {
+        if (built.isEmpty()) {
+            logger.info("공간 인덱스 구성: 좌표가 있는 역이 없습니다");
+        } else {
+            logger.info("공간 인덱스 구성 완료: {}개 역, {}x{} 격자 (셀 {}°), {}ms",
+                built.stations.length, built.rows, built.cols, built.cellDegrees,
+                System.currentTimeMillis() - built.builtAt);
+        }
+    }
+
+    /**
+     * 검색 결과 (역 + 중심점으로부터의 거리)
+     */
+    public static class Neighbor {
+        private final SubwayStation station;
+        private final double distanceKm;
+
+        public Neighbor(SubwayStation station, double distanceKm) {
+            this.station = station;
+            this.distanceKm = distanceKm;
+        }
+
+        public SubwayStation getStation() { return station; }
+        public double getDistanceKm() { return distanceKm; }
+    }
+
+    /**
+     * 불변 격자 스냅샷
+     */
+    private static final class Grid {
+        private final double minLat;
+        private final double minLon;
+        private final double cellDegrees;
+        private final int rows;
+        private final int cols;
+        private final int[] cellStart;
+        private final SubwayStation[] stations;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final long builtAt;
+
+        Grid(double minLat, double minLon, double cellDegrees, int rows, int cols, int[] cellStart,
+             SubwayStation[] stations, double[] latitudes, double[] longitudes, long builtAt) {
+            this.minLat = minLat;
+            this.minLon = minLon;
+            this.cellDegrees = cellDegrees;
+            this.rows = rows;
+            this.cols = cols;
+            this.cellStart = cellStart;
+            this.stations = stations;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.builtAt = builtAt;
+        }
+
+        boolean isEmpty() {
+            return stations.length == 0;
+        }
+
+        double maxAbsLatitude() {
+            return Math.max(Math.abs(minLat), Math.abs(minLat + rows * cellDegrees));
+        }
+
+        boolean isExpired(long maxAgeMinutes) {
+            return System.currentTimeMillis() - builtAt > maxAgeMinutes * 60_000L;
+        }
+
+        int rowOf(double latitude) {
+            return (int) Math.floor((latitude - minLat) / cellDegrees);
+        }
+
+        int colOf(double longitude) {
+            return (int) Math.floor((longitude - minLon) / cellDegrees);
+        }
+    }
+}
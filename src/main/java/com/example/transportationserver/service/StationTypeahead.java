@@ -0,0 +1,227 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.dto.StationSuggestionResponse;
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * 역명 자동완성용 자모/초성 색인 (불변)
+ * 역명과 별칭을 정규화한 뒤 자모 분해 문자열과 초성 문자열을 정렬 배열로 보관하여
+ * 접두사는 이진 탐색으로, 부분 일치는 결과가 부족할 때만 순차 탐색으로 찾음
+ */
+final class StationTypeahead {
+
+    static final int SCORE_EXACT = 100;
+    static final int SCORE_PREFIX = 80;
+    static final int SCORE_CHOSUNG_PREFIX = 70;
+    static final int SCORE_INFIX = 50;
+    static final int SCORE_CHOSUNG_INFIX = 40;
+
+    private static final int ALIAS_PENALTY = 10;     // 별칭으로 매칭
+    private static final int SECONDARY_PENALTY = 25; // 2차 정규화 형태로 매칭 (괄호/"역" 제거)
+
+    private final Entry[] entries;
+    private final Key[] jamoKeys;
+    private final Key[] chosungKeys;
+    private final Function<String, List<String>> normalizer;
+
+    private StationTypeahead(Entry[] entries, Key[] jamoKeys, Key[] chosungKeys,
+                             Function<String, List<String>> normalizer) {
+        this.entries = entries;
+        this.jamoKeys = jamoKeys;
+        this.chosungKeys = chosungKeys;
+        this.normalizer = normalizer;
+    }
+
+    /**
+     * 색인 구성
+     * normalizer는 검색 형태 목록을 반환 (첫 번째가 기본 형태, 이후는 보조 형태)
+     */
+    static StationTypeahead build(SubwayStation[] stations, Function<String, List<String>> normalizer) {
+        Map<String, Entry> byName = new LinkedHashMap<>();
+        for (SubwayStation station : stations) {
+            Entry entry = byName.computeIfAbsent(station.getName(), Entry::new);
+            if (station.getLineNumber() != null && !station.getLineNumber().isEmpty()) {
+                entry.lines.add(station.getLineNumber());
+            }
+            if (station.getAliases() != null) {
+                for (String alias : station.getAliases().split(",")) {
+                    if (!alias.trim().isEmpty()) {
+                        entry.aliases.add(alias.trim());
+                    }
+                }
+            }
+        }
+
+        Entry[] entries = byName.values().toArray(new Entry[0]);
+        List<Key> jamoKeys = new ArrayList<>();
+        List<Key> chosungKeys = new ArrayList<>();
+
+        for (int i = 0; i < entries.length; i++) {
+            addKeys(jamoKeys, chosungKeys, i, entries[i].name, null, normalizer);
+            for (String alias : entries[i].aliases) {
+                addKeys(jamoKeys, chosungKeys, i, alias, alias, normalizer);
+            }
+        }
+
+        Key[] sortedJamo = jamoKeys.toArray(new Key[0]);
+        Key[] sortedChosung = chosungKeys.toArray(new Key[0]);
+        Arrays.sort(sortedJamo, Comparator.comparing(Key::getText));
+        Arrays.sort(sortedChosung, Comparator.comparing(Key::getText));
+        return new StationTypeahead(entries, sortedJamo, sortedChosung, normalizer);
+    }
+
+    private static void addKeys(List<Key> jamoKeys, List<Key> chosungKeys, int entry, String text, String alias,
+                                Function<String, List<String>> normalizer) {
+        List<String> forms = normalizer.apply(text);
+        for (int f = 0; f < forms.size(); f++) {
+            int penalty = (alias != null ? ALIAS_PENALTY : 0) + (f > 0 ? SECONDARY_PENALTY : 0);
+            jamoKeys.add(new Key(HangulUtils.decompose(forms.get(f)), entry, penalty, alias));
+            chosungKeys.add(new Key(HangulUtils.extractChosung(forms.get(f)), entry, penalty, alias));
+        }
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * 자동완성 상위 k개
+     */
+    List<StationSuggestionResponse> suggest(String query, int limit) {
+        List<StationSuggestionResponse> result = new ArrayList<>();
+        List<String> forms = normalizer.apply(query);
+        if (forms.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        String form = forms.get(0);
+        String jamoQuery = HangulUtils.decompose(form);
+        boolean chosungOnly = HangulUtils.isChosungOnly(form);
+
+        int[] bestScore = new int[entries.length];
+        String[] matchType = new String[entries.length];
+        String[] matchedAlias = new String[entries.length];
+
+        int hits = 0;
+        hits += matchPrefix(jamoKeys, jamoQuery, SCORE_PREFIX, "PREFIX", bestScore, matchType, matchedAlias);
+        if (chosungOnly) {
+            hits += matchPrefix(chosungKeys, form, SCORE_CHOSUNG_PREFIX, "CHOSUNG_PREFIX",
+                bestScore, matchType, matchedAlias);
+        }
+
+        // 접두사 결과가 부족할 때만 부분 일치 탐색
+        if (hits < limit) {
+            matchInfix(jamoKeys, jamoQuery, SCORE_INFIX, "INFIX", bestScore, matchType, matchedAlias);
+            if (chosungOnly) {
+                matchInfix(chosungKeys, form, SCORE_CHOSUNG_INFIX, "CHOSUNG_INFIX", bestScore, matchType, matchedAlias);
+            }
+        }
+
+        List<Integer> matched = new ArrayList<>();
+        for (int i = 0; i < entries.length; i++) {
+            if (bestScore[i] > 0) {
+                matched.add(i);
+            }
+        }
+        matched.sort(Comparator.comparingInt((Integer i) -> -bestScore[i])
+            .thenComparingInt(i -> entries[i].name.length())
+            .thenComparing(i -> entries[i].name));
+
+        for (int i : matched.subList(0, Math.min(limit, matched.size()))) {
+            result.add(new StationSuggestionResponse(entries[i].name, new ArrayList<>(entries[i].lines),
+                matchType[i], matchedAlias[i], bestScore[i]));
+        }
+        return result;
+    }
+
+    private int matchPrefix(Key[] keys, String query, int baseScore, String type,
+                            int[] bestScore, String[] matchType, String[] matchedAlias) {
+        int hits = 0;
+        for (int k = lowerBound(keys, query); k < keys.length && keys[k].text.startsWith(query); k++) {
+            Key key = keys[k];
+            boolean exact = key.text.length() == query.length() && baseScore == SCORE_PREFIX;
+            int score = (exact ? SCORE_EXACT : baseScore) - key.penalty;
+            if (record(key, score, exact ? "EXACT" : type, bestScore, matchType, matchedAlias)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private void matchInfix(Key[] keys, String query, int baseScore, String type,
+                            int[] bestScore, String[] matchType, String[] matchedAlias) {
+        for (Key key : keys) {
+            if (key.text.contains(query)) {
+                record(key, baseScore - key.penalty, type, bestScore, matchType, matchedAlias);
+            }
+        }
+    }
+
+    /**
+     * 역별 최고 점수 갱신 (새로 매칭된 역이면 true)
+     */
+    private boolean record(Key key, int score, String type, int[] bestScore, String[] matchType, String[] matchedAlias) {
+        boolean first = bestScore[key.entry] == 0;
+        if (score > bestScore[key.entry]) {
+            bestScore[key.entry] = score;
+            matchType[key.entry] = type;
+            matchedAlias[key.entry] = key.alias;
+        }
+        return first;
+    }
+
+    private static int lowerBound(Key[] keys, String query) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].text.compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 역명 단위 자동완성 항목
+     */
+    private static final class Entry {
+        private final String name;
+        private final TreeSet<String> lines = new TreeSet<>();
+        private final TreeSet<String> aliases = new TreeSet<>();
+
+        Entry(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 정렬된 검색 키 (자모 또는 초성 문자열 → 항목)
+     */
+    private static final class Key {
+        private final String text;
+        private final int entry;
+        private final int penalty;
+        private final String alias;
+
+        Key(String text, int entry, int penalty, String alias) {
+            this.text = text;
+            this.entry = entry;
+            this.penalty = penalty;
+            this.alias = alias;
+        }
+
+        String getText() { return text; }
+    }
+}
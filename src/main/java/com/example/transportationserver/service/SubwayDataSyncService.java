@@ -15,8 +15,11 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 public class SubwayDataSyncService {
@@ -27,10 +30,22 @@ public class SubwayDataSyncService {
     private KoreanSubwayApiClient apiClient;
     
     @Autowired
-    private SubwayStationMapper stationMapper;
+    private StationSpatialIndex spatialIndex;
+    
+    @Autowired
+    private StationNameIndex nameIndex;
+    
+    @Autowired
+    private StationSnapshotStore snapshotStore;
+    
+    @Autowired
+    private StationBatchWriter batchWriter;
     
     @Autowired
-    private RateLimitService rateLimitService;
+    private StationCacheInvalidator cacheInvalidator;
+    
+    @Autowired
+    private SubwayStationMapper stationMapper;
     
     /**
      * 지하철역 데이터 동기화
@@ -39,12 +54,12 @@ public class SubwayDataSyncService {
     public CompletableFuture<Void> syncStationData() {
         logger.info("Starting subway station data synchronization...");
         
+        // API에서 전체 역 데이터 가져오기 (페이징 처리)
+        List<SubwayStation> collected = new ArrayList<>();
         try {
-            // API에서 전체 역 데이터 가져오기 (페이징 처리)
             int pageSize = 100;
             int currentPage = 1;
             boolean hasMore = true;
-            int totalSynced = 0;
             
             while (hasMore) {
                 int startIndex = (currentPage - 1) * pageSize + 1;
@@ -58,52 +73,72 @@ public class SubwayDataSyncService {
                     break;
                 }
                 
-                // API 데이터를 DB 모델로 변환 및 저장
-                for (SubwayStationApiDto apiStation : apiStations) {
-                    try {
-                        syncStation(apiStation);
-                        totalSynced++;
-                    } catch (Exception e) {
-                        logger.error("Failed to sync station: {}, error: {}", apiStation.getStationName(), e.getMessage());
-                    }
-                }
+                collectStations(apiStations, collected);
                 
-                logger.info("Synced page {}: {} stations", currentPage, apiStations.size());
+                logger.info("Fetched page {}: {} stations", currentPage, apiStations.size());
                 currentPage++;
-                
-                // API 호출 제한을 고려한 딜레이
-                rateLimitService.waitForSeoulApi();
             }
-            
-            logger.info("Subway station data synchronization completed. Total synced: {}", totalSynced);
-            
         } catch (Exception e) {
-            logger.error("Failed to synchronize subway station data", e);
+            logger.error("Failed to fetch subway station data, saving {} collected stations", collected.size(), e);
         }
         
+        saveStations(collected);
+        
         return CompletableFuture.completedFuture(null);
     }
     
     /**
-     * 개별 지하철역 동기화
+     * API 역 목록을 DB 모델로 변환하여 수집
+     */
+    private void collectStations(List<SubwayStationApiDto> apiStations, List<SubwayStation> collected) {
+        for (SubwayStationApiDto apiStation : apiStations) {
+            try {
+                collected.add(convertApiToModel(apiStation));
+            } catch (Exception e) {
+                logger.error("Failed to convert station: {}, error: {}", apiStation.getStationName(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 수집한 역을 외부 ID(없으면 역명 + 지역 + 노선) 기준 내용 해시로 비교하여 변경분만 일괄 upsert
+     * 외부 ID 없는 행은 ux_subway_stations_identity 기준으로 upsert
+     * 페이지 수집이 중간에 실패할 수 있으므로 이 동기화에서는 삭제를 판단하지 않음
+     * 저장하지 못한 역이 있으면 반영된 변경은 유지하되 동기화 실패로 보고 (내용 해시가 갱신되지 않아 다음 동기화에서 재시도)
      */
-    private void syncStation(SubwayStationApiDto apiStation) {
-        // 기존 데이터 확인
-        SubwayStation existingStation = null;
-        if (apiStation.getStationCode() != null) {
-            existingStation = stationMapper.findByExternalId(apiStation.getStationCode());
+    private void saveStations(List<SubwayStation> collected) {
+        if (collected.isEmpty()) {
+            logger.info("Subway station data synchronization completed. No stations to save");
+            return;
         }
         
-        if (existingStation == null) {
-            // 새로운 역 생성
-            SubwayStation newStation = convertApiToModel(apiStation);
-            stationMapper.insert(newStation);
-            logger.debug("Created new station: {}", newStation.getName());
-        } else {
-            // 기존 역 업데이트
-            updateStationFromApi(existingStation, apiStation);
-            stationMapper.update(existingStation);
-            logger.debug("Updated existing station: {}", existingStation.getName());
+        StationBatchWriter.UpsertResult result;
+        try {
+            StationDelta delta = StationDelta.compute(collected, stationMapper.findAll(),
+                StationDelta::externalOrIdentityKey, existing -> false);
+            if (delta.isEmpty()) {
+                logger.info("Subway station data synchronization completed. No changes ({})", delta);
+                return;
+            }
+            
+            Map<Boolean, List<SubwayStation>> byExternalId = delta.getChanged().stream()
+                .collect(Collectors.partitioningBy(station -> station.getExternalId() != null));
+            result = batchWriter.upsertByExternalId(byExternalId.get(true))
+                .plus(batchWriter.upsertContentByIdentity(byExternalId.get(false)));
+            delta.getChanged().forEach(cacheInvalidator::evictStation);
+            delta.getPrevious().forEach(cacheInvalidator::evictStation);
+            spatialIndex.invalidate();
+            nameIndex.invalidate();
+            snapshotStore.refreshFromDatabase();
+            logger.info("Subway station data synchronization completed. {} ({} rows affected, {} failed)",
+                delta, result.getAffected(), result.getFailed().size());
+        } catch (Exception e) {
+            logger.error("Failed to save {} subway stations", collected.size(), e);
+            return;
+        }
+        
+        if (result.hasFailures()) {
+            throw new IllegalStateException("서울시 역 동기화 부분 실패: " + result.getFailed().size() + "개 역 저장 실패");
         }
     }
     
@@ -117,6 +152,7 @@ public class SubwayDataSyncService {
         station.setStationCode(apiStation.getFrCode());
         station.setExternalId(apiStation.getStationCode());
         station.setAddress(apiStation.getAddress());
+        station.setSyncSource(SubwayStation.SYNC_SOURCE_SEOUL);
         
         // 좌표 변환 (String -> Double)
         try {
@@ -137,30 +173,6 @@ public class SubwayDataSyncService {
         return station;
     }
     
-    /**
-     * API 데이터로 기존 역 정보 업데이트
-     */
-    private void updateStationFromApi(SubwayStation existingStation, SubwayStationApiDto apiStation) {
-        existingStation.setName(apiStation.getStationName());
-        existingStation.setLineNumber(apiStation.getLineNumber());
-        existingStation.setStationCode(apiStation.getFrCode());
-        existingStation.setAddress(apiStation.getAddress());
-        
-        // 좌표 업데이트
-        try {
-            if (apiStation.getLatitude() != null && !apiStation.getLatitude().isEmpty()) {
-                existingStation.setLatitude(Double.parseDouble(apiStation.getLatitude()));
-            }
-            if (apiStation.getLongitude() != null && !apiStation.getLongitude().isEmpty()) {
-                existingStation.setLongitude(Double.parseDouble(apiStation.getLongitude()));
-            }
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid coordinate format for station update: {}", apiStation.getStationName());
-        }
-        
-        existingStation.setUpdatedAt(LocalDateTime.now());
-    }
-    
     /**
      * 특정 역의 시간표 데이터 동기화
      */
@@ -184,8 +196,6 @@ public class SubwayDataSyncService {
                             logger.debug("Schedule data: {}", scheduleDto.getArriveTime());
                         }
                     }
-                    
-                    rateLimitService.waitForSeoulApi(); // API 호출 제한 고려
                 }
             }
             
@@ -210,12 +220,12 @@ public class SubwayDataSyncService {
     public void syncStationDataSync() {
         logger.info("Starting subway station data synchronization (sync)...");
         
+        // 전체 데이터 수집 후 일괄 저장
+        List<SubwayStation> collected = new ArrayList<>();
         try {
-            // 전체 데이터 동기화
             int pageSize = 100;
             int currentPage = 1;
             boolean hasMore = true;
-            int totalSynced = 0;
             
             while (hasMore) {
                 int startIndex = (currentPage - 1) * pageSize + 1;
@@ -233,29 +243,15 @@ public class SubwayDataSyncService {
                 
                 logger.info("Received {} stations from API (page {})", apiStations.size(), currentPage);
                 
-                // API 데이터를 DB 모델로 변환 및 저장
-                for (SubwayStationApiDto apiStation : apiStations) {
-                    try {
-                        syncStation(apiStation);
-                        totalSynced++;
-                        if (totalSynced % 50 == 0) {
-                            logger.info("Progress: {} stations synced", totalSynced);
-                        }
-                    } catch (Exception e) {
-                        logger.error("Failed to sync station: {}, error: {}", apiStation.getStationName(), e.getMessage(), e);
-                    }
-                }
+                collectStations(apiStations, collected);
+                logger.info("Progress: {} stations collected", collected.size());
                 
                 currentPage++;
-                
-                // API 호출 제한을 고려한 딜레이
-                rateLimitService.waitForSeoulApi();
             }
-            
-            logger.info("Subway station data synchronization completed. Total synced: {}", totalSynced);
-            
         } catch (Exception e) {
-            logger.error("Failed to synchronize subway station data", e);
+            logger.error("Failed to fetch subway station data, saving {} collected stations", collected.size(), e);
         }
+        
+        saveStations(collected);
     }
 }
\ No newline at end of file
@@ -21,13 +21,22 @@ public class SubwayStationIdUpdateService {
     private static final Logger logger = LoggerFactory.getLogger(SubwayStationIdUpdateService.class);
     
     @Autowired
-    private MolitApiClient molitApiClient;
+    private MolitBatchCollector molitBatchCollector;
     
     @Autowired
     private SubwayStationMapper subwayStationMapper;
     
     @Autowired
-    private RateLimitService rateLimitService;
+    private StationSpatialIndex spatialIndex;
+    
+    @Autowired
+    private StationNameIndex nameIndex;
+    
+    @Autowired
+    private StationSnapshotStore snapshotStore;
+    
+    @Autowired
+    private StationCacheInvalidator cacheInvalidator;
     
     /**
      * MOLIT API에서 전체 지하철역 데이터를 가져와서 subwayStationId 업데이트
@@ -41,76 +50,63 @@ public class SubwayStationIdUpdateService {
         AtomicInteger failedUpdates = new AtomicInteger(0);
         
         try {
-            // 페이징으로 전체 데이터 조회 (MOLIT API는 총 1092개 레코드)
-            int pageSize = 500;  // 한 번에 500개씩 조회
-            int totalPages = 3;  // 총 3페이지면 충분
+            // 전국 역 목록 스냅샷 (totalCount 기준으로 모든 페이지를 동시에 조회)
+            MolitCatalogue catalogue = molitBatchCollector.catalogue().block();
+            if (catalogue == null || !catalogue.isComplete()) {
+                logger.warn("MOLIT 전국 역 목록 일부 누락: {}/{}건",
+                    catalogue != null ? catalogue.size() : 0, catalogue != null ? catalogue.getTotalCount() : 0);
+            }
+            List<MolitStationInfo> molitStations = catalogue != null ? catalogue.getStations() : List.of();
+            totalApiRecords.set(molitStations.size());
+            logger.info("MOLIT 전국 역 목록 {}개 역 데이터 수신", molitStations.size());
             
-            for (int page = 1; page <= totalPages; page++) {
-                logger.info("===== MOLIT API 페이지 {} 조회 시작 =====", page);
-                
+            // 각 역에 대해 업데이트 시도
+            for (MolitStationInfo molitStation : molitStations) {
                 try {
-                    List<MolitStationInfo> molitStations = molitApiClient.getAllStations(pageSize, page).block();
+                    String stationName = molitStation.getStationName();
+                    String routeName = molitStation.getRouteName();
+                    String subwayStationId = molitStation.getStationId();
                     
-                    if (molitStations == null || molitStations.isEmpty()) {
-                        logger.info("페이지 {}에서 데이터가 없습니다. 종료합니다.", page);
-                        break;
+                    if (stationName == null || subwayStationId == null) {
+                        logger.debug("역명 또는 stationId가 null입니다: {}", molitStation.getStationName());
+                        continue;
                     }
                     
-                    totalApiRecords.addAndGet(molitStations.size());
-                    logger.info("페이지 {}에서 {}개 역 데이터 수신", page, molitStations.size());
-                    
-                    // 각 역에 대해 업데이트 시도
-                    for (MolitStationInfo molitStation : molitStations) {
-                        try {
-                            String stationName = molitStation.getStationName();
-                            String routeName = molitStation.getRouteName();
-                            String subwayStationId = molitStation.getStationId();
-                            
-                            if (stationName == null || subwayStationId == null) {
-                                logger.debug("역명 또는 stationId가 null입니다: {}", molitStation.getStationName());
-                                continue;
-                            }
-                            
-                            // 역명 정규화
-                            String normalizedStationName = normalizeStationName(stationName);
-                            
-                            // 호선명을 표준 형식으로 변환
-                            String normalizedLineNumber = normalizeLineNumber(routeName);
-                            
-                            // 다양한 매칭 시도
-                            boolean updated = tryUpdateWithMultipleStrategies(
-                                stationName, normalizedStationName, normalizedLineNumber, subwayStationId);
-                                
-                            if (updated) {
-                                successfulUpdates.incrementAndGet();
-                                logger.debug("업데이트 성공: {} -> {}", stationName, subwayStationId);
-                            } else {
-                                failedUpdates.incrementAndGet();
-                                logger.debug("업데이트 실패: {} ({}) - 매칭되는 역이 없음", stationName, normalizedLineNumber);
-                            }
-                            
-                        } catch (Exception e) {
-                            failedUpdates.incrementAndGet();
-                            logger.error("역 업데이트 중 오류: {}", molitStation.getStationName(), e);
-                        }
-                    }
+                    // 역명 정규화
+                    String normalizedStationName = normalizeStationName(stationName);
                     
-                    logger.info("페이지 {} 처리 완료: 성공 {}, 실패 {}", page, successfulUpdates.get(), failedUpdates.get());
+                    // 호선명을 표준 형식으로 변환
+                    String normalizedLineNumber = normalizeLineNumber(routeName);
                     
-                    // API 호출 제한 고려
-                    if (page < totalPages) {
-                        rateLimitService.waitForMolit();
+                    // 다양한 매칭 시도
+                    boolean updated = tryUpdateWithMultipleStrategies(
+                        stationName, normalizedStationName, normalizedLineNumber, subwayStationId);
+                        
+                    if (updated) {
+                        successfulUpdates.incrementAndGet();
+                        logger.debug("업데이트 성공: {} -> {}", stationName, subwayStationId);
+                    } else {
+                        failedUpdates.incrementAndGet();
+                        logger.debug("업데이트 실패: {} ({}) - 매칭되는 역이 없음", stationName, normalizedLineNumber);
                     }
                     
                 } catch (Exception e) {
-                    logger.error("페이지 {} 처리 중 오류 발생", page, e);
+                    failedUpdates.incrementAndGet();
+                    logger.error("역 업데이트 중 오류: {}", molitStation.getStationName(), e);
                 }
             }
             
+            logger.info("전국 역 목록 처리 완료: 성공 {}, 실패 {}", successfulUpdates.get(), failedUpdates.get());
+            
         } catch (Exception e) {
             logger.error("subwayStationId 업데이트 중 전체적인 오류 발생", e);
         }
         
+        spatialIndex.invalidate();
+        nameIndex.invalidate();
+        cacheInvalidator.evictAll();
+        snapshotStore.refreshFromDatabase();
+        
         long endTime = System.currentTimeMillis();
         long duration = endTime - startTime;
         
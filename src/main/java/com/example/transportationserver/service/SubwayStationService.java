@@ -1,40 +1,75 @@
 package com.example.transportationserver.service;
 
 import com.example.transportationserver.dto.NearbyStationResponse;
+import com.example.transportationserver.dto.BatchNearbyStationRequest;
+import com.example.transportationserver.dto.BatchNearbyStationResponse;
 import com.example.transportationserver.dto.GroupedStationResponse;
 import com.example.transportationserver.dto.GroupedNearbyStationResponse;
+import com.example.transportationserver.dto.StationSuggestionResponse;
 import com.example.transportationserver.model.SubwayStation;
 import com.example.transportationserver.repository.SubwayStationMapper;
 import com.example.transportationserver.util.CoordinateValidator;
+import com.example.transportationserver.util.HangulUtils;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class SubwayStationService {
     
     private static final Logger logger = LoggerFactory.getLogger(SubwayStationService.class);
     
+    private static final int MAX_BATCH_POINTS = 500; // 일괄 조회 최대 지점 수
+    private static final int MAX_GROUPED_CANDIDATES = 3_200; // 그룹 k-NN 후보 확장 상한 (최대 k 200 × 16)
+    
+    @Value("${station.fuzzy-search.max-distance:2}")
+    private int fuzzyMaxDistance;
+    
     @Autowired
     private SubwayStationMapper subwayStationMapper;
     
+    @Autowired
+    private StationSpatialIndex spatialIndex;
+    
+    @Autowired
+    private StationNameIndex nameIndex;
+    
+    @Autowired
+    private NearbyCandidateCache nearbyCandidateCache;
+    
+    @Autowired
+    private StationCacheInvalidator cacheInvalidator;
+    
     @Cacheable(value = "stations", key = "'all'")
     public List<SubwayStation> getAllStations() {
         return subwayStationMapper.findAll();
     }
     
+    /**
+     * 저장된 역 개수 (전체 목록을 읽지 않고 COUNT로 조회)
+     */
+    public int countStations() {
+        return subwayStationMapper.countAll();
+    }
+    
     @Cacheable(value = "stations", key = "#id")
     public SubwayStation getStationById(Long id) {
         SubwayStation station = subwayStationMapper.findById(id);
@@ -46,7 +81,7 @@ public class SubwayStationService {
     
     @Cacheable(value = "stationSearch", key = "#name")
     public List<SubwayStation> searchStationsByName(String name) {
-        return subwayStationMapper.findByName(name);
+        return nameIndex.findByName(name);
     }
     
     public List<SubwayStation> getStationsByLine(String lineNumber) {
@@ -54,10 +89,11 @@ public class SubwayStationService {
     }
     
     public List<SubwayStation> getNearbyStations(Double latitude, Double longitude, Double radiusKm) {
-        return subwayStationMapper.findNearbyStations(latitude, longitude, radiusKm);
+        return spatialIndex.findWithinRadius(latitude, longitude, radiusKm, Integer.MAX_VALUE).stream()
+                .map(StationSpatialIndex.Neighbor::getStation)
+                .collect(Collectors.toList());
     }
     
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public SubwayStation createStation(SubwayStation station) {
         if (station.getStationCode() != null && 
             subwayStationMapper.existsByStationCode(station.getStationCode())) {
@@ -69,12 +105,13 @@ public class SubwayStationService {
         station.setUpdatedAt(now);
         
         subwayStationMapper.insert(station);
+        cacheInvalidator.stationChanged(null, station);
         return station;
     }
     
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public SubwayStation updateStation(Long id, SubwayStation stationData) {
         SubwayStation existingStation = getStationById(id);
+        SubwayStation previous = copyOf(existingStation);
         
         existingStation.setName(stationData.getName());
         existingStation.setLineNumber(stationData.getLineNumber());
@@ -86,15 +123,17 @@ public class SubwayStationService {
         existingStation.setUpdatedAt(LocalDateTime.now());
         
         subwayStationMapper.update(existingStation);
+        cacheInvalidator.stationChanged(previous, existingStation);
         return existingStation;
     }
     
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public void deleteStation(Long id) {
-        if (subwayStationMapper.findById(id) == null) {
+        SubwayStation station = subwayStationMapper.findById(id);
+        if (station == null) {
             throw new RuntimeException("Station not found with id: " + id);
         }
         subwayStationMapper.deleteById(id);
+        cacheInvalidator.stationChanged(station, null);
     }
     
     public SubwayStation findByExternalId(String externalId) {
@@ -109,18 +148,42 @@ public class SubwayStationService {
     }
     
     /**
-     * 특정 역의 좌표 업데이트
+     * 지정한 역 ID 이후의 좌표가 없는 역들 조회 (ID 오름차순)
+     */
+    public List<SubwayStation> getStationsWithoutCoordinatesAfter(Long afterId) {
+        return subwayStationMapper.findStationsWithoutCoordinatesAfter(afterId != null ? afterId : 0L);
+    }
+    
+    /**
+     * 특정 역의 좌표 업데이트 (역 행이 없는 호출용, 변경 전 값을 알기 위해 먼저 조회)
      */
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public boolean updateStationCoordinates(Long id, Double latitude, Double longitude) {
-        int updated = subwayStationMapper.updateCoordinates(id, latitude, longitude);
+        SubwayStation previous = subwayStationMapper.findById(id);
+        if (previous == null) {
+            return false;
+        }
+        return updateStationCoordinates(previous, latitude, longitude);
+    }
+    
+    /**
+     * 이미 읽어 둔 역 행 기준 좌표 업데이트 (일괄 좌표 보완 작업용, 재조회 없음)
+     * 인덱스는 해당 역 항목만 교체하고 변경 전/후 좌표 주변 셀과 해당 역 관련 캐시 키만 제거
+     */
+    public boolean updateStationCoordinates(SubwayStation station, Double latitude, Double longitude) {
+        int updated = subwayStationMapper.updateCoordinates(station.getId(), latitude, longitude);
+        if (updated > 0) {
+            SubwayStation current = copyOf(station);
+            current.setLatitude(latitude);
+            current.setLongitude(longitude);
+            current.setHasCoordinates(latitude != null && longitude != null);
+            cacheInvalidator.stationChanged(station, current);
+        }
         return updated > 0;
     }
     
     /**
      * 역명으로 찾아서 좌표 업데이트 (같은 이름의 여러 역이 있을 수 있음)
      */
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public int updateStationCoordinatesByName(String name, String lineNumber, Double latitude, Double longitude) {
         List<SubwayStation> stations = searchStationsByName(name);
         int updatedCount = 0;
@@ -131,7 +194,7 @@ public class SubwayStationService {
                 continue;
             }
             
-            boolean updated = updateStationCoordinates(station.getId(), latitude, longitude);
+            boolean updated = updateStationCoordinates(station, latitude, longitude);
             if (updated) {
                 updatedCount++;
             }
@@ -143,7 +206,6 @@ public class SubwayStationService {
     /**
      * 특정 역들의 좌표를 일괄 업데이트
      */
-    @CacheEvict(value = {"stations", "stationSearch"}, allEntries = true)
     public Map<Long, Boolean> updateMultipleStationCoordinates(Map<Long, CoordinateUpdate> updates) {
         Map<Long, Boolean> results = new HashMap<>();
         
@@ -171,7 +233,7 @@ public class SubwayStationService {
         for (Long id : targetIds) {
             try {
                 SubwayStation station = getStationById(id);
-                boolean updated = updateStationCoordinates(id, latitude, longitude);
+                boolean updated = updateStationCoordinates(station, latitude, longitude);
                 
                 Map<String, Object> updateResult = new HashMap<>();
                 updateResult.put("id", id);
@@ -268,7 +330,6 @@ public class SubwayStationService {
      * 근처 지하철역 조회 API용 메서드
      * 클라이언트에서 좌표를 주면 근처 지하철역을 거리순으로 반환
      */
-    @Cacheable(value = "nearbyStations", key = "#latitude + '_' + #longitude + '_' + #radiusKm + '_' + #limit")
     public NearbyStationResponse findNearbyStations(Double latitude, Double longitude, Double radiusKm, Integer limit) {
         // 입력 값 검증
         if (!CoordinateValidator.isValidKoreanCoordinate(latitude, longitude)) {
@@ -279,28 +340,27 @@ public class SubwayStationService {
         Double searchRadius = radiusKm != null ? Math.min(radiusKm, 50.0) : 2.0; // 최대 50km 제한
         Integer searchLimit = limit != null ? Math.min(limit, 200) : 80; // 최대 200개 제한
         
-        // 데이터베이스에서 근처 역 조회 (거리 계산 포함)
-        List<SubwayStation> nearbyStations = subwayStationMapper.findNearbyStations(latitude, longitude, searchRadius);
-        
-        // 제한된 개수만큼 자르기
-        List<SubwayStation> limitedStations = nearbyStations.stream()
-                .limit(searchLimit)
-                .collect(Collectors.toList());
+        // 셀 단위 캐시 후보에서 근처 역 조회 (거리순 정렬 및 개수 제한 포함)
+        List<StationSpatialIndex.Neighbor> nearbyStations = 
+                findNearbyCandidates(latitude, longitude, searchRadius, searchLimit);
         
         // DTO로 변환
-        List<NearbyStationResponse.NearbyStation> stationDtos = limitedStations.stream()
-                .map(station -> new NearbyStationResponse.NearbyStation(
-                    station.getId(),
-                    station.getName(),
-                    station.getLineNumber(),
-                    station.getLatitude(),
-                    station.getLongitude(),
-                    calculateDistance(latitude, longitude, station.getLatitude(), station.getLongitude()),
-                    station.getAddress(),
-                    station.getStationCode(),
-                    station.getSubwayStationId(),
-                    station.getRegion()
-                ))
+        List<NearbyStationResponse.NearbyStation> stationDtos = nearbyStations.stream()
+                .map(neighbor -> {
+                    SubwayStation station = neighbor.getStation();
+                    return new NearbyStationResponse.NearbyStation(
+                        station.getId(),
+                        station.getName(),
+                        station.getLineNumber(),
+                        station.getLatitude(),
+                        station.getLongitude(),
+                        neighbor.getDistanceKm(),
+                        station.getAddress(),
+                        station.getStationCode(),
+                        station.getSubwayStationId(),
+                        station.getRegion()
+                    );
+                })
                 .collect(Collectors.toList());
         
         return new NearbyStationResponse(stationDtos, stationDtos.size(), searchRadius, latitude, longitude);
@@ -310,7 +370,6 @@ public class SubwayStationService {
      * 근처 지하철역 조회 API용 메서드 (그룹화된 버전)
      * 클라이언트에서 좌표를 주면 근처 지하철역을 그룹화하여 거리순으로 반환
      */
-    @Cacheable(value = "nearbyStations", key = "'grouped_' + #latitude + '_' + #longitude + '_' + #radiusKm + '_' + #limit")
     public GroupedNearbyStationResponse findNearbyStationsGrouped(Double latitude, Double longitude, Double radiusKm, Integer limit) {
         // 입력 값 검증
         if (!CoordinateValidator.isValidKoreanCoordinate(latitude, longitude)) {
@@ -321,39 +380,229 @@ public class SubwayStationService {
         Double searchRadius = radiusKm != null ? Math.min(radiusKm, 50.0) : 2.0; // 최대 50km 제한
         Integer searchLimit = limit != null ? Math.min(limit, 200) : 80; // 최대 200개 제한
         
-        // 1. 데이터베이스에서 근처 역 조회 (개별 역)
-        List<SubwayStation> nearbyStations = subwayStationMapper.findNearbyStations(latitude, longitude, searchRadius);
+        // 1. 셀 단위 캐시 후보에서 근처 역 조회 (개별 역)
+        List<StationSpatialIndex.Neighbor> nearbyStations = 
+            findNearbyCandidates(latitude, longitude, searchRadius, Integer.MAX_VALUE);
         
         if (nearbyStations.isEmpty()) {
             return new GroupedNearbyStationResponse(new ArrayList<>(), 0, searchRadius, latitude, longitude);
         }
         
-        // 2. 거리 계산 및 역명별 그룹화
+        // 2. 역명별 그룹화 및 거리순 정렬/제한
+        List<GroupedNearbyStationResponse.GroupedNearbyStation> limitedStations = 
+            groupNearbyStations(latitude, longitude, nearbyStations, searchLimit);
+        
+        logger.info("그룹화된 근처 역 조회 완료: {}개 그룹, 반경 {}km", limitedStations.size(), searchRadius);
+        
+        return new GroupedNearbyStationResponse(limitedStations, limitedStations.size(), searchRadius, latitude, longitude);
+    }
+    
+    /**
+     * 여러 좌표에 대한 근처 지하철역 일괄 조회 (그룹화된 버전)
+     * 하나의 공간 인덱스 스냅샷을 공유하여 지점별 검색과 그룹화를 병렬로 수행
+     */
+    public BatchNearbyStationResponse findNearbyStationsGroupedBatch(List<BatchNearbyStationRequest.Point> points, 
+                                                                    Double radiusKm, Integer limit) {
+        if (points == null || points.isEmpty()) {
+            throw new IllegalArgumentException("조회할 좌표 목록이 비어있습니다");
+        }
+        if (points.size() > MAX_BATCH_POINTS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 좌표는 최대 " + MAX_BATCH_POINTS + "개입니다");
+        }
+        
+        // 기본값 설정 (단건 조회와 동일)
+        double searchRadius = radiusKm != null ? Math.min(radiusKm, 50.0) : 2.0; // 최대 50km 제한
+        int searchLimit = limit != null ? Math.min(limit, 200) : 80; // 최대 200개 제한
+        
+        // 1. 유효한 좌표만 추려서 일괄 검색 (잘못된 좌표는 지점 단위 오류로 처리)
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            BatchNearbyStationRequest.Point point = points.get(i);
+            if (point != null && CoordinateValidator.isValidKoreanCoordinate(point.getLatitude(), point.getLongitude())) {
+                validIndexes.add(i);
+            }
+        }
+        
+        double[] latitudes = new double[validIndexes.size()];
+        double[] longitudes = new double[validIndexes.size()];
+        for (int i = 0; i < validIndexes.size(); i++) {
+            latitudes[i] = points.get(validIndexes.get(i)).getLatitude();
+            longitudes[i] = points.get(validIndexes.get(i)).getLongitude();
+        }
+        
+        List<List<StationSpatialIndex.Neighbor>> candidates = 
+            spatialIndex.findWithinRadiusBatch(latitudes, longitudes, searchRadius, Integer.MAX_VALUE);
+        
+        // 2. 지점별 그룹화 (병렬)
+        BatchNearbyStationResponse.PointResult[] results = new BatchNearbyStationResponse.PointResult[points.size()];
+        IntStream.range(0, validIndexes.size()).parallel().forEach(i -> {
+            int index = validIndexes.get(i);
+            List<GroupedNearbyStationResponse.GroupedNearbyStation> groupedStations = candidates.get(i).isEmpty()
+                ? new ArrayList<>()
+                : groupNearbyStations(latitudes[i], longitudes[i], candidates.get(i), searchLimit);
+            results[index] = new BatchNearbyStationResponse.PointResult(
+                index, latitudes[i], longitudes[i], groupedStations, null);
+        });
+        
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                BatchNearbyStationRequest.Point point = points.get(i);
+                results[i] = new BatchNearbyStationResponse.PointResult(
+                    i, point != null ? point.getLatitude() : null, point != null ? point.getLongitude() : null,
+                    new ArrayList<>(), "유효하지 않은 좌표입니다");
+            }
+        }
+        
+        logger.info("근처 역 일괄 조회 완료: {}개 지점 중 {}개 처리, 반경 {}km", 
+                   points.size(), validIndexes.size(), searchRadius);
+        
+        return new BatchNearbyStationResponse(Arrays.asList(results), validIndexes.size(), searchRadius);
+    }
+    
+    /**
+     * 가장 가까운 k개 지하철역 조회 (반경 제한 없음)
+     * 공간 인덱스의 k-NN 탐색을 사용하므로 도시 외곽에서도 결과를 반환
+     */
+    public NearbyStationResponse findNearestStations(Double latitude, Double longitude, Integer k) {
+        // 입력 값 검증
+        if (!CoordinateValidator.isValidKoreanCoordinate(latitude, longitude)) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다: lat=" + latitude + ", lon=" + longitude);
+        }
+        
+        int count = k != null ? Math.min(k, 200) : 1; // 최대 200개 제한
+        
+        List<StationSpatialIndex.Neighbor> nearestStations = spatialIndex.findNearest(latitude, longitude, count);
+        
+        List<NearbyStationResponse.NearbyStation> stationDtos = nearestStations.stream()
+                .map(neighbor -> {
+                    SubwayStation station = neighbor.getStation();
+                    return new NearbyStationResponse.NearbyStation(
+                        station.getId(),
+                        station.getName(),
+                        station.getLineNumber(),
+                        station.getLatitude(),
+                        station.getLongitude(),
+                        neighbor.getDistanceKm(),
+                        station.getAddress(),
+                        station.getStationCode(),
+                        station.getSubwayStationId(),
+                        station.getRegion()
+                    );
+                })
+                .collect(Collectors.toList());
+        
+        // 실제 탐색된 반경 = k번째 역까지의 거리
+        double searchRadius = nearestStations.isEmpty() ? 0.0 
+                : nearestStations.get(nearestStations.size() - 1).getDistanceKm();
+        
+        return new NearbyStationResponse(stationDtos, stationDtos.size(), searchRadius, latitude, longitude);
+    }
+    
+    /**
+     * 가장 가까운 k개 지하철역 그룹 조회 (반경 제한 없음)
+     * k-NN으로 찾은 역과 같은 이름의 역(다른 노선)을 함께 묶어 그룹 단위로 반환
+     * 환승역은 한 이름에 여러 행이 있으므로 서로 다른 역명 k개가 모일 때까지 후보 수를 두 배씩 늘려 다시 탐색
+     * (MAX_GROUPED_CANDIDATES 또는 인덱스의 역을 모두 본 경우 중단)
+     */
+    public GroupedNearbyStationResponse findNearestStationsGrouped(Double latitude, Double longitude, Integer k) {
+        // 입력 값 검증
+        if (!CoordinateValidator.isValidKoreanCoordinate(latitude, longitude)) {
+            throw new IllegalArgumentException("유효하지 않은 좌표입니다: lat=" + latitude + ", lon=" + longitude);
+        }
+        
+        int count = k != null ? Math.min(k, 200) : 1; // 최대 200개 제한
+        
+        Set<String> names = new LinkedHashSet<>();
+        double nameRadius = 0.0;
+        int fetch = count;
+        while (true) {
+            List<StationSpatialIndex.Neighbor> nearestStations = spatialIndex.findNearest(latitude, longitude, fetch);
+            names.clear();
+            for (StationSpatialIndex.Neighbor neighbor : nearestStations) {
+                String name = neighbor.getStation().getName();
+                if (name != null && names.add(name.trim())) {
+                    nameRadius = neighbor.getDistanceKm();
+                    if (names.size() == count) {
+                        break;
+                    }
+                }
+            }
+            
+            boolean exhausted = nearestStations.size() < fetch;
+            if (names.size() >= count || exhausted || fetch >= MAX_GROUPED_CANDIDATES) {
+                break;
+            }
+            fetch = Math.min(fetch * 2, MAX_GROUPED_CANDIDATES);
+        }
+        
+        if (names.isEmpty()) {
+            return new GroupedNearbyStationResponse(new ArrayList<>(), 0, 0.0, latitude, longitude);
+        }
+        
+        // 같은 역명 그룹은 기준 역에서 5km 이내이므로, k번째 역명까지의 거리 + 5km 안에서 같은 이름의 역만 모음
+        double searchRadius = nameRadius + 5.0;
+        
+        List<StationSpatialIndex.Neighbor> candidates = spatialIndex
+            .findWithinRadius(latitude, longitude, searchRadius, Integer.MAX_VALUE).stream()
+            .filter(neighbor -> neighbor.getStation().getName() != null 
+                && names.contains(neighbor.getStation().getName().trim()))
+            .collect(Collectors.toList());
+        
+        List<GroupedNearbyStationResponse.GroupedNearbyStation> groupedStations = 
+            groupNearbyStations(latitude, longitude, candidates, count);
+        
+        return new GroupedNearbyStationResponse(groupedStations, groupedStations.size(), searchRadius, latitude, longitude);
+    }
+    
+    /**
+     * 캐시된 셀 후보 목록에서 실제 요청 좌표 기준 거리를 다시 계산하여 반경 내 역을 거리순으로 반환
+     */
+    private List<StationSpatialIndex.Neighbor> findNearbyCandidates(double latitude, double longitude, 
+                                                                   double radiusKm, int limit) {
+        NearbyCandidateCache.NearbyCell cell = nearbyCandidateCache.cellFor(latitude, longitude, radiusKm);
+        
+        List<StationSpatialIndex.Neighbor> result = new ArrayList<>();
+        for (SubwayStation station : nearbyCandidateCache.getCandidates(cell)) {
+            double distance = CoordinateValidator.calculateDistance(
+                latitude, longitude, station.getLatitude(), station.getLongitude());
+            if (distance <= radiusKm) {
+                result.add(new StationSpatialIndex.Neighbor(station, distance));
+            }
+        }
+        
+        result.sort(Comparator.comparingDouble(StationSpatialIndex.Neighbor::getDistanceKm));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+    
+    /**
+     * 근처 역 목록을 역명 + 좌표 클러스터 단위로 그룹화하여 거리순으로 반환
+     */
+    private List<GroupedNearbyStationResponse.GroupedNearbyStation> groupNearbyStations(
+            Double latitude, Double longitude, List<StationSpatialIndex.Neighbor> nearbyStations, int limit) {
+        // 1. 역명별 그룹화 (인덱스의 역 객체는 공유되므로 거리는 별도 맵에 보관)
         Map<String, List<SubwayStation>> stationsByName = new HashMap<>();
+        Map<SubwayStation, Double> distances = new IdentityHashMap<>();
         
-        for (SubwayStation station : nearbyStations) {
+        for (StationSpatialIndex.Neighbor neighbor : nearbyStations) {
+            SubwayStation station = neighbor.getStation();
             String stationName = station.getName() != null ? station.getName().trim() : "";
             if (stationName.isEmpty()) continue;
             
-            // 거리 계산
-            Double distance = calculateDistance(latitude, longitude, station.getLatitude(), station.getLongitude());
-            // 임시로 distance를 저장하기 위해 address 필드 사용 (나중에 파싱)
-            station.setAddress(String.valueOf(distance));
-            
+            distances.put(station, neighbor.getDistanceKm());
             stationsByName.computeIfAbsent(stationName, k -> new ArrayList<>()).add(station);
         }
         
-        // 3. 각 역명 그룹을 GroupedNearbyStation으로 변환
+        // 2. 각 역명 그룹을 GroupedNearbyStation으로 변환
         List<GroupedNearbyStationResponse.GroupedNearbyStation> groupedStations = new ArrayList<>();
         
         for (Map.Entry<String, List<SubwayStation>> entry : stationsByName.entrySet()) {
             String stationName = entry.getKey();
             List<SubwayStation> stations = entry.getValue();
             
-            // 3-1. 좌표 기반 클러스터링 (5km 이내)
+            // 2-1. 좌표 기반 클러스터링 (5km 이내)
             List<List<SubwayStation>> clusters = clusterStationsByDistance(stations, 5.0);
             
-            // 3-2. 각 클러스터를 GroupedNearbyStation으로 변환
+            // 2-2. 각 클러스터를 GroupedNearbyStation으로 변환
             for (List<SubwayStation> cluster : clusters) {
                 if (cluster.isEmpty()) continue;
                 
@@ -386,7 +635,7 @@ public class SubwayStationService {
                 // 대표 주소 및 지역
                 String repAddress = cluster.stream()
                     .map(SubwayStation::getAddress)
-                    .filter(addr -> addr != null && !addr.isEmpty() && !addr.matches("\\d+\\.\\d+"))
+                    .filter(addr -> addr != null && !addr.isEmpty())
                     .findFirst()
                     .orElse(null);
                     
@@ -398,29 +647,15 @@ public class SubwayStationService {
                 
                 // 개별 역 상세 정보
                 List<GroupedNearbyStationResponse.StationDetail> details = cluster.stream()
-                    .map(station -> {
-                        Double stationDistance = null;
-                        try {
-                            String distanceStr = station.getAddress();
-                            if (distanceStr != null && distanceStr.matches("\\d+\\.\\d+")) {
-                                stationDistance = Double.parseDouble(distanceStr);
-                            }
-                        } catch (NumberFormatException e) {
-                            // 거리 파싱 실패 시 직접 계산
-                            stationDistance = calculateDistance(latitude, longitude, 
-                                station.getLatitude(), station.getLongitude());
-                        }
-                        
-                        return new GroupedNearbyStationResponse.StationDetail(
-                            station.getId(),
-                            station.getLineNumber(),
-                            station.getStationCode(),
-                            station.getLatitude(),
-                            station.getLongitude(),
-                            stationDistance,
-                            station.getSubwayStationId()
-                        );
-                    })
+                    .map(station -> new GroupedNearbyStationResponse.StationDetail(
+                        station.getId(),
+                        station.getLineNumber(),
+                        station.getStationCode(),
+                        station.getLatitude(),
+                        station.getLongitude(),
+                        distances.get(station),
+                        station.getSubwayStationId()
+                    ))
                     .collect(Collectors.toList());
                 
                 // GroupedNearbyStation 생성
@@ -441,20 +676,16 @@ public class SubwayStationService {
             }
         }
         
-        // 4. 거리순 정렬 및 제한
+        // 3. 거리순 정렬 및 제한
         groupedStations.sort((a, b) -> {
             if (a.getDistanceKm() == null) return 1;
             if (b.getDistanceKm() == null) return -1;
             return Double.compare(a.getDistanceKm(), b.getDistanceKm());
         });
         
-        List<GroupedNearbyStationResponse.GroupedNearbyStation> limitedStations = groupedStations.stream()
-            .limit(searchLimit)
+        return groupedStations.stream()
+            .limit(limit)
             .collect(Collectors.toList());
-        
-        logger.info("그룹화된 근처 역 조회 완료: {}개 그룹, 반경 {}km", limitedStations.size(), searchRadius);
-        
-        return new GroupedNearbyStationResponse(limitedStations, limitedStations.size(), searchRadius, latitude, longitude);
     }
     
     /**
@@ -492,7 +723,7 @@ public class SubwayStationService {
         }
         
         // 1순위: 높은 우선순위 검색 시도 (정확 매칭 + "역" 추가)
-        List<SubwayStation> highPriorityResults = subwayStationMapper.findByHighPrioritySearch(searchTerm);
+        List<SubwayStation> highPriorityResults = nameIndex.findByHighPrioritySearch(searchTerm);
         
         if (!highPriorityResults.isEmpty()) {
             logger.info("스마트 검색 '{}': 높은 우선순위로 {}개 역 발견", searchTerm, highPriorityResults.size());
@@ -500,7 +731,7 @@ public class SubwayStationService {
         }
         
         // 2순위: 전체 스마트 검색 (시작 매칭 포함)
-        List<SubwayStation> smartResults = subwayStationMapper.findBySmartSearch(searchTerm);
+        List<SubwayStation> smartResults = nameIndex.findBySmartSearch(searchTerm);
         
         // 상위 점수 결과만 반환 (80점 이상)
         List<SubwayStation> filteredResults = smartResults.stream()
@@ -511,73 +742,71 @@ public class SubwayStationService {
         return filteredResults;
     }
     
+    /**
+     * 역명 자동완성 (초성/자모 입력 지원)
+     * 역명 인덱스에 미리 구성된 자모/초성 색인을 사용하므로 DB 조회 없음
+     */
+    public List<StationSuggestionResponse> autocompleteStations(String query, Integer limit) {
+        int searchLimit = limit != null ? Math.min(limit, 50) : 10; // 최대 50개 제한
+        return nameIndex.suggest(query, searchLimit);
+    }
+    
     /**
      * 역명으로 검색한 결과를 그룹화하여 반환 (개선된 스마트 검색 사용)
      * 같은 이름이고 5km 이내에 있는 역들을 하나로 그룹화
+     * fuzzy가 true이면 자모 편집 거리 이내의 오타 허용 결과를 뒤에 덧붙임
      */
-    @Cacheable(value = "stationSearch", key = "'smart_grouped_' + #name")
-    public List<GroupedStationResponse> searchStationsGroupedSmart(String name) {
+    @Cacheable(value = "stationSearch", key = "(#fuzzy ? 'smart_grouped_fuzzy_' : 'smart_grouped_') + #name")
+    public List<GroupedStationResponse> searchStationsGroupedSmart(String name, boolean fuzzy) {
         // 1. 스마트 검색으로 관련도 높은 역들만 조회
         List<SubwayStation> allStations = searchStationsSmart(name);
         
-        if (allStations.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        // 2. 역명별로 그룹화 (정확한 역명 매칭)
-        Map<String, List<SubwayStation>> stationsByName = allStations.stream()
-            .collect(Collectors.groupingBy(station -> 
-                station.getName() != null ? station.getName().trim() : ""));
-        
-        List<GroupedStationResponse> groupedResults = new ArrayList<>();
+        List<GroupedStationResponse> groupedResults = groupStationsByName(allStations);
         
-        // 3. 각 역명 그룹에 대해 좌표 기반 클러스터링 수행
-        for (Map.Entry<String, List<SubwayStation>> entry : stationsByName.entrySet()) {
-            String stationName = entry.getKey();
-            List<SubwayStation> stations = entry.getValue();
-            
-            if (stationName.isEmpty()) {
-                continue; // 역명이 없는 경우 건너뛰기
-            }
-            
-            // 좌표 기반으로 5km 이내 그룹 생성
-            List<List<SubwayStation>> clusters = clusterStationsByDistance(stations, 5.0);
+        // 2. 오타 허용 검색 결과 병합 (이미 포함된 역명 제외, 편집 거리순)
+        if (fuzzy) {
+            Set<String> matchedNames = groupedResults.stream()
+                .map(GroupedStationResponse::getStationName)
+                .collect(Collectors.toSet());
+            int maxDistance = maxEditDistanceFor(name);
             
-            // 각 클러스터를 GroupedStationResponse로 변환
-            for (List<SubwayStation> cluster : clusters) {
-                if (!cluster.isEmpty()) {
-                    groupedResults.add(new GroupedStationResponse(stationName, cluster));
+            for (StationFuzzyIndex.Match match : nameIndex.findFuzzy(name, maxDistance)) {
+                for (GroupedStationResponse group : groupStationsByName(match.getStations())) {
+                    if (matchedNames.add(group.getStationName())) {
+                        group.setEditDistance(match.getDistance());
+                        groupedResults.add(group);
+                    }
                 }
             }
         }
         
-        // 4. 결과를 역명 기준으로 정렬
-        groupedResults.sort((a, b) -> a.getStationName().compareTo(b.getStationName()));
-        
         return groupedResults;
     }
     
     /**
-     * 역명으로 검색한 결과를 그룹화하여 반환 (기존 로직 - 호환성 유지)
-     * 같은 이름이고 5km 이내에 있는 역들을 하나로 그룹화
+     * 오타 허용 편집 거리: 짧은 역명(자모 4개 이하, 대략 2음절 미만)은 1, 그 외는 설정값(최대 2)
      */
-    @Cacheable(value = "stationSearch", key = "'grouped_' + #name")
-    public List<GroupedStationResponse> searchStationsGrouped(String name) {
-        // 1. 기본 검색으로 모든 매칭 역 조회 (기존 로직)
-        List<SubwayStation> allStations = searchStationsByName(name);
-        
+    private int maxEditDistanceFor(String name) {
+        int jamoLength = HangulUtils.decompose(name != null ? name.trim() : "").length();
+        return jamoLength <= 4 ? Math.min(1, fuzzyMaxDistance) : fuzzyMaxDistance;
+    }
+    
+    /**
+     * 역 목록을 역명 + 좌표 클러스터(5km) 단위로 그룹화하여 역명순으로 반환
+     */
+    private List<GroupedStationResponse> groupStationsByName(List<SubwayStation> allStations) {
         if (allStations.isEmpty()) {
             return new ArrayList<>();
         }
         
-        // 2. 역명별로 그룹화 (정확한 역명 매칭)
+        // 1. 역명별로 그룹화 (정확한 역명 매칭)
         Map<String, List<SubwayStation>> stationsByName = allStations.stream()
             .collect(Collectors.groupingBy(station -> 
                 station.getName() != null ? station.getName().trim() : ""));
         
         List<GroupedStationResponse> groupedResults = new ArrayList<>();
         
-        // 3. 각 역명 그룹에 대해 좌표 기반 클러스터링 수행
+        // 2. 각 역명 그룹에 대해 좌표 기반 클러스터링 수행
         for (Map.Entry<String, List<SubwayStation>> entry : stationsByName.entrySet()) {
             String stationName = entry.getKey();
             List<SubwayStation> stations = entry.getValue();
@@ -597,12 +826,22 @@ public class SubwayStationService {
             }
         }
         
-        // 4. 결과를 역명 기준으로 정렬
+        // 3. 결과를 역명 기준으로 정렬
         groupedResults.sort((a, b) -> a.getStationName().compareTo(b.getStationName()));
         
         return groupedResults;
     }
     
+    /**
+     * 역명으로 검색한 결과를 그룹화하여 반환 (기존 로직 - 호환성 유지)
+     * 같은 이름이고 5km 이내에 있는 역들을 하나로 그룹화
+     */
+    @Cacheable(value = "stationSearch", key = "'grouped_' + #name")
+    public List<GroupedStationResponse> searchStationsGrouped(String name) {
+        // 기본 검색으로 모든 매칭 역 조회 (기존 로직) 후 역명 + 좌표 클러스터 단위로 그룹화
+        return groupStationsByName(searchStationsByName(name));
+    }
+    
     /**
      * 같은 이름의 역들을 거리 기준으로 클러스터링
      * @param stations 같은 이름의 역들
@@ -656,7 +895,7 @@ public class SubwayStationService {
     @Cacheable(value = "stationSearch", key = "'detailed_grouped_' + #exactName")
     public GroupedStationResponse getDetailedGroupedStation(String exactName) {
         // 정확한 역명으로 검색
-        List<SubwayStation> stations = subwayStationMapper.findByName(exactName);
+        List<SubwayStation> stations = nameIndex.findByName(exactName);
         
         if (stations.isEmpty()) {
             return null;
@@ -672,4 +911,31 @@ public class SubwayStationService {
             .map(mainCluster -> new GroupedStationResponse(exactName, mainCluster))
             .orElse(null);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 역 행 복사 (캐시/인덱스가 공유하는 객체를 직접 바꾸지 않도록 변경 전후 값을 따로 보관)
+     */
+    private static SubwayStation copyOf(SubwayStation source) {
+        SubwayStation copy = new SubwayStation();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setLineNumber(source.getLineNumber());
+        copy.setStationCode(source.getStationCode());
+        copy.setLatitude(source.getLatitude());
+        copy.setLongitude(source.getLongitude());
+        copy.setAddress(source.getAddress());
+        copy.setExternalId(source.getExternalId());
+        copy.setSubwayStationId(source.getSubwayStationId());
+        copy.setRegion(source.getRegion());
+        copy.setCity(source.getCity());
+        copy.setFullName(source.getFullName());
+        copy.setAliases(source.getAliases());
+        copy.setDataSource(source.getDataSource());
+        copy.setHasCoordinates(source.getHasCoordinates());
+        copy.setContentHash(source.getContentHash());
+        copy.setSyncSource(source.getSyncSource());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
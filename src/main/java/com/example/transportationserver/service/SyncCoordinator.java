@@ -0,0 +1,307 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SyncJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 여러 인스턴스 간 동기화 작업 조정 (PostgreSQL advisory lock 기반 리더 선출)
+ * - 작업마다 세션 수준 advisory lock을 커넥션 풀 밖의 전용 연결로 잡고, 잠금을 얻은 인스턴스만 작업을 실행
+ *   (몇 시간 걸리는 좌표 보완 작업도 Hikari 풀 연결을 점유하지 않음)
+ * - 연결이 끊기면(프로세스 종료 포함) 잠금이 자동으로 풀리므로 다른 인스턴스가 이어받을 수 있음
+ * - 작업은 CompletableFuture로 실행하고 완료 시점에 잠금을 해제하므로, 외부 API 대기 중에는 작업 스레드를 점유하지 않음
+ * - 진행 상황은 공유 테이블(sync_jobs)에 기록되어 어느 인스턴스에서든 조회 가능
+ * - 스케줄 실행은 모든 인스턴스에서 트리거되지만 잠금을 얻은 한 곳만 실행하고,
+ *   최근(min-interval 이내)에 다른 인스턴스가 완료한 작업은 다시 실행하지 않음
+ */
+@Service
+public class SyncCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncCoordinator.class);
+
+    // advisory lock 첫 번째 키 (이 서비스의 동기화 작업 네임스페이스, "SYNC")
+    static final int LOCK_NAMESPACE = 0x53594E43;
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?, ?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?, ?)";
+
+    /**
+     * 조정 대상 작업 (checkpointed: 작업 스스로 sync_jobs에 체크포인트를 기록하는지)
+     */
+    public enum Job {
+        FULL_SYNC("FULL_SYNC", false),
+        COORDINATE_SUPPLEMENT(SyncJobService.JOB_COORDINATE_SUPPLEMENT, true),
+        COORDINATE_BATCH(SyncJobService.JOB_COORDINATE_BATCH, true),
+        SUBWAY_STATION_IDS("SUBWAY_STATION_IDS", false),
+        SEOUL_SYNC("SEOUL_SYNC", false);
+
+        private final String jobType;
+        private final boolean checkpointed;
+
+        Job(String jobType, boolean checkpointed) {
+            this.jobType = jobType;
+            this.checkpointed = checkpointed;
+        }
+
+        public String getJobType() { return jobType; }
+        public boolean isCheckpointed() { return checkpointed; }
+
+        public static Optional<Job> fromJobType(String jobType) {
+            for (Job job : values()) {
+                if (job.jobType.equals(jobType)) {
+                    return Optional.of(job);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private SyncJobService syncJobService;
+
+    @Autowired
+    private IntegratedSubwayDataService integratedService;
+
+    @Autowired
+    private BatchCoordinateService batchCoordinateService;
+
+    @Autowired
+    private SubwayStationIdUpdateService stationIdUpdateService;
+
+    @Autowired
+    private SubwayDataSyncService seoulSyncService;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Value("${sync.schedule.min-interval-minutes:60}")
+    private long minIntervalMinutes;
+
+    /**
+     * advisory lock 두 번째 키 (작업 유형별, 음수가 되지 않도록 부호 비트 제거)
+     */
+    static int lockKey(String jobType) {
+        return jobType.hashCode() & 0x7fffffff;
+    }
+
+    // === 스케줄 실행 (모든 인스턴스에서 트리거, 잠금을 얻은 한 곳만 실행) === //
+
+    @Scheduled(cron = "${sync.schedule.full-sync-cron:0 0 4 * * *}")
+    public void scheduledFullSync() {
+        triggerScheduled(Job.FULL_SYNC);
+    }
+
+    @Scheduled(cron = "${sync.schedule.coordinate-supplement-cron:0 0 5 * * *}")
+    public void scheduledCoordinateSupplement() {
+        triggerScheduled(Job.COORDINATE_SUPPLEMENT);
+    }
+
+    @Scheduled(cron = "${sync.schedule.subway-station-ids-cron:0 0 6 * * MON}")
+    public void scheduledSubwayStationIdUpdate() {
+        triggerScheduled(Job.SUBWAY_STATION_IDS);
+    }
+
+    private void triggerScheduled(Job job) {
+        try {
+            SyncJob latest = syncJobService.getLatest(job.getJobType());
+            if (latest != null && SyncJob.STATUS_COMPLETED.equals(latest.getStatus()) && latest.getFinishedAt() != null
+                    && latest.getFinishedAt().isAfter(LocalDateTime.now().minusMinutes(minIntervalMinutes))) {
+                logger.debug("{} 스케줄 건너뜀: 최근 완료된 작업 #{} ({})",
+                    job.getJobType(), latest.getId(), latest.getFinishedAt());
+                return;
+            }
+
+            if (trigger(job)) {
+                logger.info("{} 스케줄 실행 시작 (이 인스턴스가 잠금 획득)", job.getJobType());
+            } else {
+                logger.info("{} 스케줄 건너뜀: 다른 인스턴스에서 실행 중", job.getJobType());
+            }
+        } catch (Exception e) {
+            logger.error("{} 스케줄 실행 실패", job.getJobType(), e);
+        }
+    }
+
+    // === 실행 === //
+
+    /**
+     * 잠금을 얻으면 작업을 백그라운드에서 실행
+     * @return 실행을 시작했으면 true, 다른 곳(다른 인스턴스 포함)에서 이미 실행 중이면 false
+     */
+    public boolean trigger(Job job) {
+        Connection lock = tryLock(job);
+        if (lock == null) {
+            return false;
+        }
+
+        runHoldingLock(job, lock, () -> execute(job)).exceptionally(throwable -> {
+            logger.error("{} 작업 실패", job.getJobType(), throwable);
+            return null;
+        });
+        return true;
+    }
+
+    /**
+     * 잠금을 얻으면 현재 스레드에서 작업을 실행하고 결과 반환
+     * @return 작업 결과, 다른 곳에서 이미 실행 중이면 empty
+     */
+    public <T> Optional<T> runExclusive(Job job, Supplier<T> task) {
+        Connection lock = tryLock(job);
+        if (lock == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(runHoldingLock(job, lock, () -> CompletableFuture.completedFuture(task.get())).join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 어느 인스턴스에서든 실행 중인지
+     */
+    public boolean isRunning(Job job) {
+        return syncJobService.isRunningAnywhere(job.getJobType());
+    }
+
+    /**
+     * 작업을 시작하고, 반환된 future가 끝나면 실행 기록을 마무리하고 잠금 해제
+     * 완료 콜백은 작업을 끝낸 스레드(작업 스레드 풀 또는 boundedElastic)에서 실행
+     */
+    private <T> CompletableFuture<T> runHoldingLock(Job job, Connection lock, Supplier<CompletableFuture<T>> task) {
+        SyncJob record = null;
+        CompletableFuture<T> future;
+        try {
+            // 체크포인트 작업은 스스로 sync_jobs를 기록하므로 여기서는 실행 기록만 남기는 작업만 처리
+            if (!job.checkpointed) {
+                record = syncJobService.start(job.getJobType());
+            }
+            future = task.get();
+        } catch (RuntimeException e) {
+            finish(job, lock, record, e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        SyncJob started = record;
+        return future.whenComplete((result, error) -> finish(job, lock, started, error));
+    }
+
+    private void finish(Job job, Connection lock, SyncJob record, Throwable error) {
+        try {
+            if (record != null) {
+                if (error == null) {
+                    syncJobService.complete(record);
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    syncJobService.fail(record, cause.getMessage());
+                }
+            }
+        } finally {
+            release(job, lock);
+        }
+    }
+
+    /**
+     * 작업 실행 (호출 스레드를 막지 않고 완료 시점을 future로 반환)
+     */
+    private CompletableFuture<?> execute(Job job) {
+        switch (job) {
+            case FULL_SYNC:
+                return integratedService.performIntegratedSync().thenAccept(result -> {
+                    if (!result.isSuccess()) {
+                        throw new IllegalStateException("통합 동기화 실패: " + result.getErrorMessage());
+                    }
+                });
+            case COORDINATE_SUPPLEMENT:
+                return integratedService.supplementMissingCoordinates();
+            case COORDINATE_BATCH:
+                return batchCoordinateService.supplementCoordinatesBatch();
+            case SUBWAY_STATION_IDS:
+                return CompletableFuture.runAsync(stationIdUpdateService::updateAllSubwayStationIds, taskExecutor);
+            case SEOUL_SYNC:
+                return CompletableFuture.runAsync(seoulSyncService::triggerFullSync, taskExecutor);
+            default:
+                throw new IllegalArgumentException("알 수 없는 작업: " + job);
+        }
+    }
+
+    // === advisory lock (세션 수준, 커넥션 풀 밖의 전용 연결) === //
+
+    /**
+     * 잠금 획득 시 잠금을 보유한 연결 반환, 이미 잠겨 있으면 null
+     * 풀 연결을 쓰면 작업 시간 동안 풀 크기가 줄어들므로 DriverManager로 별도 물리 연결을 염
+     */
+    private Connection tryLock(Job job) {
+        Connection connection = null;
+        try {
+            connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+            try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK_SQL)) {
+                statement.setInt(1, LOCK_NAMESPACE);
+                statement.setInt(2, lockKey(job.getJobType()));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getBoolean(1)) {
+                        logger.debug("{} 잠금 획득", job.getJobType());
+                        return connection;
+                    }
+                }
+            }
+            connection.close();
+            return null;
+
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException(job.getJobType() + " 잠금 획득 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void release(Job job, Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement(UNLOCK_SQL)) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, lockKey(job.getJobType()));
+            statement.execute();
+            logger.debug("{} 잠금 해제", job.getJobType());
+        } catch (SQLException e) {
+            // 전용 물리 연결이므로 닫으면 세션과 함께 잠금도 해제됨
+            logger.warn("{} 잠금 해제 실패, 연결 종료로 해제: {}", job.getJobType(), e.getMessage());
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("잠금 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+}
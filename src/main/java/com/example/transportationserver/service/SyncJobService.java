@@ -0,0 +1,182 @@
+package com.example.transportationserver.service;
+
+import com.example.transportationserver.model.SubwayStation;
+import com.example.transportationserver.model.SyncJob;
+import com.example.transportationserver.repository.SyncJobMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재개 가능한 동기화 작업 체크포인트 관리 (sync_jobs / sync_job_items)
+ * - 작업은 역 ID 오름차순으로 처리하고, 역 하나를 처리할 때마다 결과와 체크포인트(last_station_id)를 한 트랜잭션으로 기록
+ * - 같은 유형의 실행 중/실패 작업이 있으면 새로 만들지 않고 체크포인트부터 이어서 처리
+ * - 진행 상황 조회는 메모리 카운터가 아닌 테이블 기준이므로 재시작 후에도, 다른 인스턴스에서도 같은 값을 봄
+ */
+@Service
+public class SyncJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncJobService.class);
+
+    public static final String JOB_COORDINATE_SUPPLEMENT = "COORDINATE_SUPPLEMENT";
+    public static final String JOB_COORDINATE_BATCH = "COORDINATE_BATCH";
+    public static final String JOB_COORDINATE_STREAMING = "COORDINATE_STREAMING";
+
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_NOT_FOUND = "NOT_FOUND";
+    public static final String OUTCOME_UPDATE_FAILED = "UPDATE_FAILED";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    @Autowired
+    private SyncJobMapper syncJobMapper;
+
+    // 이 프로세스에서 실행 중인 작업 유형 (같은 작업을 동시에 두 번 돌리지 않도록)
+    private final Set<String> activeJobTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 작업 시작 또는 재개
+     * @param remaining 새 작업일 때의 전체 대상 수
+     * @return 처리할 작업, 같은 유형이 이미 실행 중이면 null
+     */
+    public SyncJob startOrResume(String jobType, int remaining) {
+        if (!activeJobTypes.add(jobType)) {
+            logger.warn("{} 작업이 이미 실행 중입니다.", jobType);
+            return null;
+        }
+
+        try {
+            SyncJob job = syncJobMapper.findResumable(jobType);
+            if (job != null) {
+                syncJobMapper.markRunning(job.getId());
+                job.setStatus(SyncJob.STATUS_RUNNING);
+                logger.info("{} 작업 #{} 재개: {}/{} 처리됨, 체크포인트 역 ID {}",
+                    jobType, job.getId(), job.getProcessedCount(), job.getTotalCount(), job.getLastStationId());
+                return job;
+            }
+
+            job = new SyncJob(jobType, remaining);
+            syncJobMapper.insert(job);
+            logger.info("{} 작업 #{} 시작: 대상 {}개", jobType, job.getId(), remaining);
+            return job;
+
+        } catch (RuntimeException e) {
+            activeJobTypes.remove(jobType);
+            throw e;
+        }
+    }
+
+    /**
+     * 체크포인트가 없는 작업의 실행 기록 시작 (항상 새 행, 중복 실행 방지는 SyncCoordinator의 잠금이 담당)
+     */
+    public SyncJob start(String jobType) {
+        return start(jobType, 0);
+    }
+
+    /**
+     * 체크포인트가 없는 작업의 실행 기록 시작 (시작 시점의 전체 대상 수 기록)
+     */
+    public SyncJob start(String jobType, int total) {
+        SyncJob job = new SyncJob(jobType, total);
+        syncJobMapper.insert(job);
+        activeJobTypes.add(jobType);
+        logger.info("{} 작업 #{} 시작: 대상 {}개", jobType, job.getId(), total);
+        return job;
+    }
+
+    /**
+     * 어느 인스턴스에서든 해당 작업이 실행 중인지 (SyncCoordinator advisory lock 보유 여부)
+     */
+    public boolean isRunningAnywhere(String jobType) {
+        return activeJobTypes.contains(jobType)
+            || syncJobMapper.isAdvisoryLockHeld(SyncCoordinator.LOCK_NAMESPACE, SyncCoordinator.lockKey(jobType));
+    }
+
+    /**
+     * 역 하나의 처리 결과 기록 + 체크포인트 갱신
+     * 이미 기록된 역(재개 직전에 처리된 역)은 카운터를 다시 올리지 않음
+     */
+    @Transactional
+    public void recordOutcome(SyncJob job, SubwayStation station, String outcome, String message) {
+        int inserted = syncJobMapper.insertItem(job.getId(), station.getId(), outcome, message);
+        if (inserted > 0) {
+            String currentStation = station.getName() + " (" + station.getLineNumber() + ")";
+            syncJobMapper.updateCheckpoint(job.getId(), station.getId(), currentStation, OUTCOME_SUCCESS.equals(outcome));
+        }
+        job.setLastStationId(station.getId());
+    }
+
+    public void complete(SyncJob job) {
+        finish(job, SyncJob.STATUS_COMPLETED, null);
+    }
+
+    public void fail(SyncJob job, String errorMessage) {
+        finish(job, SyncJob.STATUS_FAILED, errorMessage);
+    }
+
+    private void finish(SyncJob job, String status, String errorMessage) {
+        try {
+            syncJobMapper.finish(job.getId(), status, errorMessage);
+        } finally {
+            activeJobTypes.remove(job.getJobType());
+        }
+        logger.info("{} 작업 #{} 종료: {}", job.getJobType(), job.getId(), status);
+    }
+
+    /**
+     * 가장 최근 작업 (없으면 null)
+     */
+    public SyncJob getLatest(String jobType) {
+        return syncJobMapper.findLatest(jobType);
+    }
+
+    /**
+     * 작업 진행 상황 (테이블 기준)
+     * 실행 중으로 기록되어 있지만 어느 인스턴스도 잠금을 갖고 있지 않으면 INTERRUPTED (재시작 시 재개 대상)
+     */
+    public Map<String, Object> getProgress(String jobType) {
+        Map<String, Object> progress = new HashMap<>();
+        SyncJob job = getLatest(jobType);
+        if (job == null) {
+            progress.put("status", "IDLE");
+            progress.put("total", 0);
+            progress.put("current", 0);
+            progress.put("success", 0);
+            progress.put("failed", 0);
+            progress.put("currentStation", "");
+            return progress;
+        }
+
+        String status = job.getStatus();
+        if (job.isRunning() && !isRunningAnywhere(jobType)) {
+            status = "INTERRUPTED";
+        }
+
+        progress.put("jobId", job.getId());
+        progress.put("status", status);
+        progress.put("total", job.getTotalCount());
+        progress.put("current", job.getProcessedCount());
+        progress.put("success", job.getSuccessCount());
+        progress.put("failed", job.getFailureCount());
+        progress.put("currentStation", job.getCurrentStation() != null ? job.getCurrentStation() : "");
+        progress.put("lastStationId", job.getLastStationId());
+        progress.put("startedAt", job.getStartedAt() != null ? job.getStartedAt().toString() : null);
+        progress.put("finishedAt", job.getFinishedAt() != null ? job.getFinishedAt().toString() : null);
+        if (job.getErrorMessage() != null) {
+            progress.put("errorMessage", job.getErrorMessage());
+        }
+
+        Map<String, Object> outcomes = new HashMap<>();
+        for (Map<String, Object> row : syncJobMapper.countItemsByOutcome(job.getId())) {
+            outcomes.put(String.valueOf(row.get("outcome")), row.get("count"));
+        }
+        progress.put("outcomes", outcomes);
+        return progress;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.transportationserver.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티
+ * 완성형 음절을 초성/중성/종성 호환 자모로 분해하며, 겹모음/겹받침은 자판 입력 순서대로 풀어서 표현
+ * (예: "광" -> "ㄱㅗㅏㅇ", "닭" -> "ㄷㅏㄹㄱ") 입력 중인 미완성 음절도 접두사로 비교할 수 있음
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNGSUNG = {
+        'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+        'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    private static final char[] JONGSUNG = {
+        0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+        'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 겹모음/겹받침 → 자판 입력 순서
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        COMPOUND_JAMO.put('ㅘ', "ㅗㅏ");
+        COMPOUND_JAMO.put('ㅙ', "ㅗㅐ");
+        COMPOUND_JAMO.put('ㅚ', "ㅗㅣ");
+        COMPOUND_JAMO.put('ㅝ', "ㅜㅓ");
+        COMPOUND_JAMO.put('ㅞ', "ㅜㅔ");
+        COMPOUND_JAMO.put('ㅟ', "ㅜㅣ");
+        COMPOUND_JAMO.put('ㅢ', "ㅡㅣ");
+        COMPOUND_JAMO.put('ㄳ', "ㄱㅅ");
+        COMPOUND_JAMO.put('ㄵ', "ㄴㅈ");
+        COMPOUND_JAMO.put('ㄶ', "ㄴㅎ");
+        COMPOUND_JAMO.put('ㄺ', "ㄹㄱ");
+        COMPOUND_JAMO.put('ㄻ', "ㄹㅁ");
+        COMPOUND_JAMO.put('ㄼ', "ㄹㅂ");
+        COMPOUND_JAMO.put('ㄽ', "ㄹㅅ");
+        COMPOUND_JAMO.put('ㄾ', "ㄹㅌ");
+        COMPOUND_JAMO.put('ㄿ', "ㄹㅍ");
+        COMPOUND_JAMO.put('ㅀ', "ㄹㅎ");
+        COMPOUND_JAMO.put('ㅄ', "ㅂㅅ");
+    }
+
+    private HangulUtils() {}
+
+    /**
+     * 완성형 한글 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 호환 자모 자음 여부 (ㄱ ~ ㅎ)
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 문자열 전체가 자음으로만 이루어졌는지 여부 (초성 검색어 판별용)
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isConsonant(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 자모 분해 (예: "강남" -> "ㄱㅏㅇㄴㅏㅁ")
+     * 한글 이외의 문자는 소문자로 그대로 유지
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                result.append(CHOSUNG[index / (JUNG_COUNT * JONG_COUNT)]);
+                appendJamo(result, JUNGSUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                char jong = JONGSUNG[index % JONG_COUNT];
+                if (jong != 0) {
+                    appendJamo(result, jong);
+                }
+            } else {
+                appendJamo(result, Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 초성 추출 (예: "강남" -> "ㄱㄴ")
+     * 자음은 그대로, 모음 자모는 제외하고 한글 이외의 문자는 소문자로 유지
+     */
+    public static String extractChosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                result.append(CHOSUNG[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else if (isConsonant(c)) {
+                result.append(c);
+            } else if (c < 'ㄱ' || c > 'ㅣ') {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    private static void appendJamo(StringBuilder result, char jamo) {
+        String expanded = COMPOUND_JAMO.get(jamo);
+        if (expanded != null) {
+            result.append(expanded);
+        } else {
+            result.append(jamo);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.transportationserver.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시별 인기 키(hot key) 집계기
+ * 키별 조회 횟수를 크기가 제한된 Caffeine 캐시에 보관하므로, 자주 조회되지 않는 키는
+ * W-TinyLFU 정책에 따라 밀려나고 메모리 사용량이 일정하게 유지됨
+ */
+public class HotKeyTracker {
+
+    private final Set<String> trackedCaches;
+    private final long capacity;
+    private final Map<String, Cache<Object, LongAdder>> counters = new ConcurrentHashMap<>();
+
+    public HotKeyTracker(Set<String> trackedCaches, long capacity) {
+        this.trackedCaches = trackedCaches;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 캐시 조회 기록 (추적 대상 캐시만)
+     */
+    public void recordAccess(String cacheName, Object key) {
+        if (key == null || !trackedCaches.contains(cacheName)) {
+            return;
+        }
+        counters.computeIfAbsent(cacheName, name -> Caffeine.newBuilder().maximumSize(capacity).build())
+            .get(key, k -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * 조회 횟수 상위 N개 키 (내림차순)
+     */
+    public List<Map<String, Object>> topKeys(String cacheName, int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        Cache<Object, LongAdder> counter = counters.get(cacheName);
+        if (counter == null) {
+            return result;
+        }
+
+        counter.asMap().entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .sorted(Comparator.comparingLong((Map.Entry<Object, Long> entry) -> entry.getValue()).reversed())
+            .limit(limit)
+            .forEach(entry -> {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("key", String.valueOf(entry.getKey()));
+                item.put("accessCount", entry.getValue());
+                result.add(item);
+            });
+        return result;
+    }
+
+    public Set<String> getTrackedCaches() {
+        return trackedCaches;
+    }
+}
@@ -1,127 +1,269 @@
 package com.example.transportationserver.util;
 
+import com.example.transportationserver.exception.RateLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import jakarta.annotation.PreDestroy;
+import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Reactive Rate Limiter for API calls
- * 각 API 타입별로 요청 제한을 관리하는 유틸리티
+ * API 타입별 토큰 버킷 (초당 허용량 + 버스트 + 일일 한도)
+ * - 구독 시점에 CAS 한 번으로 다음 허용 시각을 예약하므로 잠금 없이 동시 호출자 간 순서(FIFO)가 보장됨
+ *   (GCRA 방식: 버킷이 비어 있으면 burst개까지 즉시, 이후 1/rate 간격으로 예약)
+ * - 대기는 스레드를 점유하지 않는 Mono.delay로 처리
+ * - 일일 한도를 넘으면 대기하지 않고 RateLimitExceededException (한국 시간 자정 기준 초기화)
+ * 외부 API 클라이언트(서울시, MOLIT, OpenStreetMap)가 HTTP 호출마다 직접 거치는 유일한 제한 지점이므로
+ * 호출 측은 별도로 대기하지 않음 (블로킹 코드에서 block()해도 대기는 타이머로 처리되어 sleep하지 않음)
  */
 @Component
 public class ReactiveRateLimiter {
-    
+
     private static final Logger logger = LoggerFactory.getLogger(ReactiveRateLimiter.class);
-    private static final Duration CLEANUP_THRESHOLD = Duration.ofHours(1);
-    
-    private final ConcurrentHashMap<ApiType, AtomicLong> lastRequestTimes = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<ApiType, Duration> intervals = new ConcurrentHashMap<>();
-    
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
     public enum ApiType {
-        OPENSTREETMAP(Duration.ofSeconds(1)),    // 1초당 1회
-        MOLIT(Duration.ofMillis(500)),           // 0.5초당 1회  
-        SEOUL(Duration.ofMillis(100));           // 0.1초당 1회
-        
-        private final Duration defaultInterval;
-        
-        ApiType(Duration defaultInterval) {
-            this.defaultInterval = defaultInterval;
+        OPENSTREETMAP("openstreetmap"),    // Nominatim 정책: 초당 1회
+        MOLIT("molit"),
+        SEOUL("seoul");
+
+        private final String key;
+
+        ApiType(String key) {
+            this.key = key;
         }
-        
-        public Duration getDefaultInterval() {
-            return defaultInterval;
+
+        public String getKey() {
+            return key;
         }
     }
-    
-    public ReactiveRateLimiter() {
-        // 기본 간격 설정
+
+    @Value("${rate-limit.openstreetmap.permits-per-second:1}")
+    private double osmRate;
+
+    @Value("${rate-limit.openstreetmap.burst:1}")
+    private int osmBurst;
+
+    @Value("${rate-limit.openstreetmap.daily-quota:0}")
+    private long osmDailyQuota;
+
+    @Value("${rate-limit.molit.permits-per-second:2}")
+    private double molitRate;
+
+    @Value("${rate-limit.molit.burst:1}")
+    private int molitBurst;
+
+    @Value("${rate-limit.molit.daily-quota:0}")
+    private long molitDailyQuota;
+
+    @Value("${rate-limit.seoul.permits-per-second:10}")
+    private double seoulRate;
+
+    @Value("${rate-limit.seoul.burst:1}")
+    private int seoulBurst;
+
+    @Value("${rate-limit.seoul.daily-quota:0}")
+    private long seoulDailyQuota;
+
+    private final Map<ApiType, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        buckets.put(ApiType.OPENSTREETMAP, new TokenBucket(osmRate, osmBurst, osmDailyQuota));
+        buckets.put(ApiType.MOLIT, new TokenBucket(molitRate, molitBurst, molitDailyQuota));
+        buckets.put(ApiType.SEOUL, new TokenBucket(seoulRate, seoulBurst, seoulDailyQuota));
         for (ApiType apiType : ApiType.values()) {
-            intervals.put(apiType, apiType.getDefaultInterval());
-            lastRequestTimes.put(apiType, new AtomicLong(0));
+            TokenBucket bucket = buckets.get(apiType);
+            logger.info("Rate limit {}: {}/s, burst {}, 일일 한도 {}",
+                apiType, bucket.permitsPerSecond, bucket.burst, bucket.dailyQuota > 0 ? bucket.dailyQuota : "없음");
         }
     }
-    
+
     /**
      * Rate limit이 적용된 API 호출 실행
+     * 구독할 때마다(재시도 포함) 허가 하나를 예약하고, 예약 시각까지 대기한 뒤 실행
      */
     public <T> Mono<T> executeLimited(ApiType apiType, Mono<T> operation) {
         return Mono.defer(() -> {
-            long now = System.currentTimeMillis();
-            AtomicLong lastTime = lastRequestTimes.get(apiType);
-            Duration interval = intervals.get(apiType);
-            
-            long timeSinceLastRequest = now - lastTime.get();
-            long requiredInterval = interval.toMillis();
-            
-            if (timeSinceLastRequest >= requiredInterval) {
-                // 충분한 시간이 지났으면 바로 실행
-                lastTime.set(now);
+            TokenBucket bucket = buckets.get(apiType);
+            long delayNanos = bucket.reserve(System.nanoTime());
+
+            if (delayNanos < 0) {
+                return Mono.error(new RateLimitExceededException(
+                    apiType + " 일일 호출 한도(" + bucket.dailyQuota + "회) 초과"));
+            }
+            if (delayNanos == 0) {
+                bucket.recordGrant(0);
                 return operation;
-            } else {
-                // 대기가 필요한 경우
-                long delay = requiredInterval - timeSinceLastRequest;
-                return Mono.delay(Duration.ofMillis(delay), Schedulers.boundedElastic())
-                    .then(Mono.fromCallable(() -> {
-                        lastTime.set(System.currentTimeMillis());
-                        return null;
-                    }))
-                    .then(operation);
             }
+
+            // 예약된 시각까지 대기 (대기 중 취소되면 호출하지 않았으므로 일일 사용량은 되돌리고, 예약한 간격은 버려짐)
+            bucket.queued.incrementAndGet();
+            return Mono.delay(Duration.ofNanos(delayNanos))
+                .doOnNext(tick -> bucket.recordGrant(delayNanos))
+                .doOnCancel(bucket::refundDailyQuota)
+                .doFinally(signal -> bucket.queued.decrementAndGet())
+                .then(operation);
         });
     }
-    
+
     /**
-     * 동적으로 Rate Limit 간격 조정
+     * 전체 API 타입별 상태 (대기열 깊이, 대기 시간, 일일 사용량)
      */
-    public void setInterval(ApiType apiType, Duration interval) {
-        intervals.put(apiType, interval);
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (ApiType apiType : ApiType.values()) {
+            status.put(apiType.getKey(), buckets.get(apiType).snapshot());
+        }
+        return status;
     }
-    
+
     /**
-     * 현재 Rate Limit 상태 확인
+     * 단일 API 타입 상태
      */
-    public long getTimeSinceLastRequest(ApiType apiType) {
-        return System.currentTimeMillis() - lastRequestTimes.get(apiType).get();
+    public Map<String, Object> getStatus(ApiType apiType) {
+        return buckets.get(apiType).snapshot();
     }
-    
+
     /**
-     * 1시간마다 오래된 데이터 정리 (메모리 누수 방지)
+     * API 타입별 토큰 버킷
+     * theoreticalArrival: 다음 허가가 버킷을 비운 상태로 나갈 수 있는 시각(nanoTime)
+     * 허가 시각 = max(theoreticalArrival, now) - tolerance, tolerance = (burst - 1) × interval
      */
-    @Scheduled(fixedRate = 3600000) // 1시간마다
-    public void cleanupOldData() {
-        long cutoffTime = System.currentTimeMillis() - CLEANUP_THRESHOLD.toMillis();
-        int resetCount = 0;
-        
-        for (Map.Entry<ApiType, AtomicLong> entry : lastRequestTimes.entrySet()) {
-            AtomicLong lastTime = entry.getValue();
-            if (lastTime.get() < cutoffTime) {
-                lastTime.set(0);
-                resetCount++;
+    private static final class TokenBucket {
+
+        final double permitsPerSecond;
+        final int burst;
+        final long dailyQuota;
+        final long intervalNanos;
+        final long toleranceNanos;
+
+        final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+        final AtomicReference<DailyUsage> dailyUsage = new AtomicReference<>(new DailyUsage(LocalDate.now(QUOTA_ZONE), 0));
+
+        final AtomicInteger queued = new AtomicInteger(0);
+        final AtomicLong granted = new AtomicLong(0);
+        final AtomicLong delayed = new AtomicLong(0);
+        final AtomicLong rejected = new AtomicLong(0);
+        final AtomicLong totalWaitNanos = new AtomicLong(0);
+        final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+        TokenBucket(double permitsPerSecond, int burst, long dailyQuota) {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("permitsPerSecond > 0, burst >= 1 이어야 합니다");
             }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.dailyQuota = dailyQuota;
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+            this.toleranceNanos = intervalNanos * (burst - 1);
         }
-        
-        if (resetCount > 0) {
-            logger.debug("ReactiveRateLimiter: {}개 API 타입의 오래된 데이터를 정리했습니다", resetCount);
+
+        /**
+         * 허가 하나 예약
+         * @return 대기해야 할 시간(ns), 일일 한도 초과면 -1
+         */
+        long reserve(long now) {
+            if (!consumeDailyQuota()) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long start = tat == Long.MIN_VALUE ? now : Math.max(tat, now);
+                if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                    return Math.max(0, start - toleranceNanos - now);
+                }
+            }
+        }
+
+        private boolean consumeDailyQuota() {
+            LocalDate today = LocalDate.now(QUOTA_ZONE);
+            while (true) {
+                DailyUsage usage = dailyUsage.get();
+                long used = usage.date.equals(today) ? usage.count : 0;
+                if (dailyQuota > 0 && used >= dailyQuota) {
+                    return false;
+                }
+                if (dailyUsage.compareAndSet(usage, new DailyUsage(today, used + 1))) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 예약 후 호출하지 않은 허가의 일일 사용량 반환 (날짜가 바뀌었으면 이미 초기화되었으므로 무시)
+         */
+        void refundDailyQuota() {
+            LocalDate today = LocalDate.now(QUOTA_ZONE);
+            while (true) {
+                DailyUsage usage = dailyUsage.get();
+                if (!usage.date.equals(today) || usage.count == 0) {
+                    return;
+                }
+                if (dailyUsage.compareAndSet(usage, new DailyUsage(today, usage.count - 1))) {
+                    return;
+                }
+            }
+        }
+
+        void recordGrant(long waitNanos) {
+            granted.incrementAndGet();
+            if (waitNanos > 0) {
+                delayed.incrementAndGet();
+                totalWaitNanos.addAndGet(waitNanos);
+                maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            }
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> status = new LinkedHashMap<>();
+            long now = System.nanoTime();
+            long tat = theoreticalArrival.get();
+            long backlogNanos = tat == Long.MIN_VALUE ? 0 : Math.max(0, tat - toleranceNanos - now);
+            long grantedCount = granted.get();
+
+            status.put("permitsPerSecond", permitsPerSecond);
+            status.put("burst", burst);
+            status.put("queueDepth", queued.get());
+            status.put("nextPermitWaitMs", TimeUnit.NANOSECONDS.toMillis(backlogNanos));
+            status.put("granted", grantedCount);
+            status.put("delayed", delayed.get());
+            status.put("rejected", rejected.get());
+            status.put("averageWaitMs", grantedCount > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get()) / (double) grantedCount : 0.0);
+            status.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+
+            DailyUsage usage = dailyUsage.get();
+            long usedToday = usage.date.equals(LocalDate.now(QUOTA_ZONE)) ? usage.count : 0;
+            status.put("dailyQuota", dailyQuota > 0 ? dailyQuota : null);
+            status.put("usedToday", usedToday);
+            return status;
         }
     }
-    
+
     /**
-     * 리소스 정리
+     * 날짜별 사용량 (CAS로 날짜 전환과 증가를 함께 처리하기 위한 불변 값)
      */
-    @PreDestroy
-    public void cleanup() {
-        lastRequestTimes.clear();
-        intervals.clear();
-        logger.info("ReactiveRateLimiter 리소스 정리 완료");
+    private static final class DailyUsage {
+        final LocalDate date;
+        final long count;
+
+        DailyUsage(LocalDate date, long count) {
+            this.date = date;
+            this.count = count;
+        }
     }
-}
\ No newline at end of file
+}
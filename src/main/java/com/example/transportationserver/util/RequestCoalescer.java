@@ -0,0 +1,34 @@
+package com.example.transportationserver.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 합치기 (single-flight)
+ * 같은 키로 동시에 들어온 요청은 진행 중인 호출 하나의 결과를 함께 받고, 완료된 결과는 짧게(ttl) 재사용
+ * - 진행 중인 호출은 Caffeine AsyncCache의 CompletableFuture로 공유 (키당 호출 1회)
+ * - 실패한 호출은 캐시에서 자동 제거되므로 다음 요청이 다시 시도
+ * - 한 호출자가 취소(타임아웃 포함)해도 공유 호출은 계속 진행되어 다른 호출자에게 전달됨
+ */
+public class RequestCoalescer<K, V> {
+
+    private final AsyncCache<K, V> inFlight;
+
+    public RequestCoalescer(Duration ttl, long maximumSize) {
+        this.inFlight = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .buildAsync();
+    }
+
+    /**
+     * 같은 키의 진행 중/최근 결과가 있으면 공유하고, 없으면 loader로 새로 호출
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.fromFuture(() -> inFlight.get(key, (k, executor) -> loader.get().toFuture()), true);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.transportationserver.util;
+
+import com.example.transportationserver.model.SubwayStation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 역 데이터 내용 해시 (증분 동기화용)
+ * upsert / COPY 적재가 쓰는 내용 컬럼(COLUMNS) 전체를 SHA-256으로 요약
+ * 외부 API 응답의 부동소수점 표현 차이로 해시가 바뀌지 않도록 좌표는 소수점 6자리로 반올림 후 비교
+ */
+public class StationContentHash {
+
+    private static final char SEPARATOR = '\u001F';
+
+    /**
+     * 내용 컬럼 (VALUES와 같은 순서)
+     * StationBulkLoader 스테이징 테이블과 SubwayStationMapper 다중 행 upsert가 이 목록을 그대로 사용하므로
+     * 컬럼을 추가하면 해시 대상에도 함께 추가됨 (external_id, content_hash, 시각 컬럼은 키/메타데이터라 제외)
+     */
+    public static final String COLUMNS = "name, line_number, station_code, latitude, longitude, address, "
+        + "subway_station_id, region, city, full_name, aliases, data_source, has_coordinates";
+
+    private static final List<Function<SubwayStation, Object>> VALUES = List.of(
+        SubwayStation::getName, SubwayStation::getLineNumber, SubwayStation::getStationCode,
+        SubwayStation::getLatitude, SubwayStation::getLongitude, SubwayStation::getAddress,
+        SubwayStation::getSubwayStationId, SubwayStation::getRegion, SubwayStation::getCity,
+        SubwayStation::getFullName, SubwayStation::getAliases, SubwayStation::getDataSource,
+        SubwayStation::getHasCoordinates);
+
+    static {
+        if (COLUMNS.split(",").length != VALUES.size()) {
+            throw new IllegalStateException("StationContentHash COLUMNS/VALUES 개수 불일치");
+        }
+    }
+
+    private StationContentHash() {}
+
+    /**
+     * COLUMNS 순서의 내용 컬럼 값
+     */
+    public static List<Object> values(SubwayStation station) {
+        List<Object> values = new ArrayList<>(VALUES.size());
+        for (Function<SubwayStation, Object> value : VALUES) {
+            values.add(value.apply(station));
+        }
+        return values;
+    }
+
+    public static String of(SubwayStation station) {
+        StringBuilder content = new StringBuilder(256);
+        for (Object value : values(station)) {
+            if (value instanceof Double coordinate) {
+                appendCoordinate(content, coordinate);
+            } else {
+                appendText(content, value != null ? value.toString() : null);
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void appendText(StringBuilder content, String value) {
+        if (value != null) {
+            content.append(value.trim());
+        }
+        content.append(SEPARATOR);
+    }
+
+    private static void appendCoordinate(StringBuilder content, Double value) {
+        if (value != null) {
+            content.append(String.format(Locale.ROOT, "%.6f", value));
+        }
+        content.append(SEPARATOR);
+    }
+}